@@ -5,6 +5,7 @@ plugins {
     java
     id("com.diffplug.spotless") version "6.25.0"
     id("org.sonarqube") version "3.1"
+    id("me.champeau.jmh") version "0.6.8"
     jacoco
 }
 buildscript {
@@ -39,6 +40,7 @@ dependencies {
     testImplementation("org.junit.vintage:junit-vintage-engine")
     testImplementation("org.assertj:assertj-core:3.25.3")
     testImplementation("org.mockito:mockito-core:5.11.0")
+    jmhRuntimeOnly("org.slf4j:slf4j-nop:1.7.32")
 }
 
 val javaSourceLevel: String by project
@@ -50,11 +52,54 @@ java {
     withJavadocJar()
     withSourcesJar()
 }
+// Java 11+ classes packaged in META-INF/versions/11 of the multi-release JAR
+val java11: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java11")
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+// Tests of the Java 11+ classes, which take precedence over their Java 8 version
+val java11Test: SourceSet by sourceSets.creating {
+    java.srcDir("src/test/java11")
+    compileClasspath += java11.output + sourceSets.test.get().compileClasspath
+    runtimeClasspath += output + java11.output + sourceSets.test.get().runtimeClasspath
+}
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+}
 
 ///////////////////////////////////////////////////////////////////////////////
 //  TASKS CONFIGURATION
 ///////////////////////////////////////////////////////////////////////////////
 tasks {
+    named<JavaCompile>("compileJava11Java") {
+        options.release.set(11)
+    }
+    named<JavaCompile>("compileJava11TestJava") {
+        options.release.set(11)
+    }
+    val java11TestTask = register<Test>("java11Test") {
+        description = "Runs the tests of the Java 11+ classes."
+        group = "verification"
+        testClassesDirs = java11Test.output.classesDirs
+        classpath = java11Test.runtimeClasspath
+        useJUnitPlatform()
+    }
+    check {
+        dependsOn(java11TestTask)
+    }
+    jar {
+        into("META-INF/versions/11") {
+            from(java11.output)
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
     spotless {
         java {
             target("src/**/*.java")
@@ -0,0 +1,210 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.keyple.core.distributed.remote.ObservableRemotePluginApi;
+import org.eclipse.keyple.core.distributed.remote.spi.RemoteReaderSpi;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
+import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
+
+/**
+ * In-memory endpoints, core API and messages shared by the benchmarks.
+ *
+ * <p>The endpoints never leave the JVM: the sync endpoint answers in the caller thread, whereas the
+ * async endpoints answer from a dedicated thread, as a network stack would do.
+ */
+final class BenchmarkFixtures {
+
+  static final String SERVICE_ID = "SERVICE_ID";
+  static final String SESSION_ID = "SESSION_ID";
+  static final String CLIENT_NODE_ID = "CLIENT_NODE_ID";
+  static final String LOCAL_READER_NAME = "LOCAL_READER_NAME";
+  static final String CMD_DATA =
+      "{\"service\":\"TRANSMIT_CARD_REQUEST\",\"apdu\":\"00A404000AA000000291\"}";
+  static final String RESP_DATA =
+      "{\"apdu\":\"6F228408A000000291A00000A516BF0C13C70800000000C0E11FA653070A3C230C1410019000\"}";
+
+  /** Size of the initial card content and output data exchanged with the remote services. */
+  enum PayloadSize {
+    SMALL(2),
+    LARGE(64);
+
+    private final int apdusCount;
+
+    PayloadSize(int apdusCount) {
+      this.apdusCount = apdusCount;
+    }
+  }
+
+  /** A card content made of APDU responses, representative of a selection result. */
+  static final class CardContent {
+
+    private final List<String> apdus;
+
+    CardContent(PayloadSize size) {
+      apdus = new ArrayList<String>(size.apdusCount);
+      for (int i = 0; i < size.apdusCount; i++) {
+        apdus.add(String.format("%02X", i) + "6F228408A000000291A00000A516BF0C13C70800009000");
+      }
+    }
+  }
+
+  /** Constructor. */
+  private BenchmarkFixtures() {}
+
+  /**
+   * Builds a message associated to the {@link MessageDto.Action#EXECUTE_REMOTE_SERVICE} action
+   * using the layout of the provided client API level.
+   *
+   * @param apiLevel The API level of the client Distributed layer (0, 1 or 3).
+   * @param size The size of the initial card content.
+   * @return A not null reference.
+   */
+  static MessageDto buildExecuteRemoteServiceMessage(int apiLevel, PayloadSize size) {
+    CardContent cardContent = new CardContent(size);
+    JsonObject body = new JsonObject();
+    if (apiLevel == 0) {
+      body.addProperty(MessageDto.JsonProperty.SERVICE_ID.name(), SERVICE_ID);
+      body.addProperty(
+          MessageDto.JsonProperty.INITIAL_CARD_CONTENT.name(), JsonUtil.toJson(cardContent));
+      body.addProperty(
+          MessageDto.JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.name(),
+          CardContent.class.getName());
+    } else {
+      body.addProperty(MessageDto.JsonProperty.CORE_API_LEVEL.getKey(), 2);
+      body.addProperty(MessageDto.JsonProperty.SERVICE_ID.getKey(), SERVICE_ID);
+      if (apiLevel >= 3) {
+        body.addProperty(MessageDto.JsonProperty.IS_READER_CONTACTLESS.getKey(), true);
+      }
+      body.add(
+          MessageDto.JsonProperty.INITIAL_CARD_CONTENT.getKey(),
+          JsonUtil.getParser().toJsonTree(cardContent));
+      body.addProperty(
+          MessageDto.JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey(),
+          CardContent.class.getName());
+    }
+    return new MessageDto()
+        .setApiLevel(apiLevel)
+        .setAction(MessageDto.Action.EXECUTE_REMOTE_SERVICE.name())
+        .setSessionId(SESSION_ID)
+        .setClientNodeId(CLIENT_NODE_ID)
+        .setLocalReaderName(LOCAL_READER_NAME)
+        .setBody(body.toString());
+  }
+
+  /**
+   * Builds the response to the provided command.
+   *
+   * @param command The command.
+   * @return A not null reference.
+   */
+  static MessageDto buildResponse(MessageDto command) {
+    return new MessageDto(command).setAction(MessageDto.Action.RESP.name()).setBody(RESP_DATA);
+  }
+
+  /** Core plugin API which only keeps a reference to the last registered remote reader. */
+  static final class InMemoryObservableRemotePluginApi implements ObservableRemotePluginApi {
+
+    private volatile RemoteReaderSpi lastRemoteReader;
+
+    RemoteReaderSpi getLastRemoteReader() {
+      return lastRemoteReader;
+    }
+
+    @Override
+    public void addRemoteReader(RemoteReaderSpi remoteReaderSpi, int clientCoreApiLevel) {
+      lastRemoteReader = remoteReaderSpi;
+    }
+
+    @Override
+    public void removeRemoteReader(String remoteReaderName) {
+      // NOP
+    }
+
+    @Override
+    public void onPluginEvent(String jsonData) {
+      // NOP
+    }
+  }
+
+  /** Sync client endpoint answering each command in the caller thread. */
+  static final class InMemorySyncEndpointClient implements SyncEndpointClientSpi {
+
+    @Override
+    public List<MessageDto> sendRequest(MessageDto message) {
+      return Collections.singletonList(buildResponse(message));
+    }
+  }
+
+  /** Async client endpoint answering each command from a dedicated thread. */
+  static final class InMemoryAsyncEndpointClient implements AsyncEndpointClientSpi {
+
+    private final ExecutorService network = Executors.newSingleThreadExecutor();
+    private AsyncNodeClient node;
+
+    void bind(AsyncNodeClient node) {
+      this.node = node;
+    }
+
+    void shutdown() {
+      network.shutdownNow();
+    }
+
+    @Override
+    public void openSession(final String sessionId) {
+      network.execute(() -> node.onOpen(sessionId));
+    }
+
+    @Override
+    public void sendMessage(final MessageDto message) {
+      network.execute(() -> node.onMessage(buildResponse(message)));
+    }
+
+    @Override
+    public void closeSession(final String sessionId) {
+      network.execute(() -> node.onClose(sessionId));
+    }
+  }
+
+  /**
+   * Async server endpoint answering each command from a dedicated thread and dropping the other
+   * messages.
+   */
+  static final class InMemoryAsyncEndpointServer implements AsyncEndpointServerSpi {
+
+    private final ExecutorService network = Executors.newSingleThreadExecutor();
+    private AsyncNodeServer node;
+
+    void bind(AsyncNodeServer node) {
+      this.node = node;
+    }
+
+    void shutdown() {
+      network.shutdownNow();
+    }
+
+    @Override
+    public void sendMessage(final MessageDto message) {
+      if (MessageDto.Action.CMD.name().equals(message.getAction())) {
+        network.execute(() -> node.onMessage(buildResponse(message)));
+      }
+    }
+  }
+}
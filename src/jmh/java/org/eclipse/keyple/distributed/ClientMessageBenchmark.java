@@ -0,0 +1,92 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.BenchmarkFixtures.*;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.distributed.remote.spi.RemotePluginFactorySpi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks of the client message paths of {@link AbstractRemotePluginClientAdapter} and {@link
+ * AbstractRemoteReaderAdapter}, for both sync and async nodes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClientMessageBenchmark {
+
+  @Param({"SYNC", "SYNC_WITH_SESSION_REUSE", "ASYNC"})
+  String nodeType;
+
+  private InMemoryAsyncEndpointClient asyncEndpoint;
+  private RemotePluginClientAdapter plugin;
+  private RemoteReaderClientAdapter remoteReader;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RemotePluginClientFactoryBuilder.NodeStep builder =
+        RemotePluginClientFactoryBuilder.builder("BENCHMARK_PLUGIN");
+    RemotePluginClientFactory factory;
+    if ("ASYNC".equals(nodeType)) {
+      asyncEndpoint = new InMemoryAsyncEndpointClient();
+      factory = builder.withAsyncNode(asyncEndpoint, 10).build();
+    } else {
+      RemotePluginClientFactoryBuilder.BuilderStep builderStep =
+          builder
+              .withSyncNode(new InMemorySyncEndpointClient())
+              .withoutPluginObservation()
+              .withoutReaderObservation();
+      if ("SYNC_WITH_SESSION_REUSE".equals(nodeType)) {
+        builderStep.withSessionReuse(4, 60000);
+      }
+      factory = builderStep.build();
+    }
+    plugin = (RemotePluginClientAdapter) ((RemotePluginFactorySpi) factory).getRemotePlugin();
+    if (asyncEndpoint != null) {
+      asyncEndpoint.bind(plugin.getAsyncNode());
+    }
+
+    // Open the global session if needed before creating the reader.
+    plugin.executeRemotely(CMD_DATA);
+    remoteReader =
+        (RemoteReaderClientAdapter) plugin.createRemoteReader("REMOTE_READER", LOCAL_READER_NAME);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    plugin.onUnregister();
+    if (asyncEndpoint != null) {
+      asyncEndpoint.shutdown();
+    }
+  }
+
+  @Benchmark
+  public String pluginExecuteRemotely() {
+    return plugin.executeRemotely(CMD_DATA);
+  }
+
+  @Benchmark
+  public String readerExecuteRemotely() {
+    return remoteReader.executeRemotely(CMD_DATA);
+  }
+}
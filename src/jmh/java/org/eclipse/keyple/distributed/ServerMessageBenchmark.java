@@ -0,0 +1,135 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.BenchmarkFixtures.*;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.distributed.remote.spi.RemotePluginFactorySpi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks of the server message paths of {@link ObservableRemotePluginServerAdapter} and {@link
+ * RemoteReaderServerAdapter}.
+ *
+ * <p>A remote service must be started before being ended, so each operation of the {@code
+ * onMessage} benchmark also ends the remote service with a null output, and each operation of the
+ * {@code endRemoteService} benchmark also starts a minimal remote service. The cost of each path
+ * is obtained by comparing the two benchmarks.
+ *
+ * <p>The initial card content of a remote reader is deserialized once and then reused, so the
+ * {@code getInitialCardContent} benchmark starts a new remote service before each invocation and
+ * ends it afterwards, outside of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ServerMessageBenchmark {
+
+  @Param({"0", "1", "3"})
+  int apiLevel;
+
+  @Param({"SMALL", "LARGE"})
+  PayloadSize payloadSize;
+
+  private InMemoryObservableRemotePluginApi observableRemotePluginApi;
+  private InMemoryAsyncEndpointServer endpoint;
+  private ObservableRemotePluginServerAdapter plugin;
+  private MessageDto executeRemoteServiceMessage;
+  private MessageDto minimalExecuteRemoteServiceMessage;
+  private CardContent outputData;
+  private RemoteReaderServerAdapter remoteReader;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    observableRemotePluginApi = new InMemoryObservableRemotePluginApi();
+    endpoint = new InMemoryAsyncEndpointServer();
+    plugin =
+        (ObservableRemotePluginServerAdapter)
+            ((RemotePluginFactorySpi)
+                    RemotePluginServerFactoryBuilder.builder("BENCHMARK_PLUGIN")
+                        .withAsyncNode(endpoint)
+                        .build())
+                .getRemotePlugin();
+    plugin.connect(observableRemotePluginApi);
+    endpoint.bind(plugin.getAsyncNode());
+    executeRemoteServiceMessage = buildExecuteRemoteServiceMessage(apiLevel, payloadSize);
+    minimalExecuteRemoteServiceMessage =
+        buildExecuteRemoteServiceMessage(apiLevel, PayloadSize.SMALL);
+    outputData = new CardContent(payloadSize);
+
+    // Start a remote service through the node in order to open its session.
+    plugin.getAsyncNode().onMessage(executeRemoteServiceMessage);
+    remoteReader = (RemoteReaderServerAdapter) observableRemotePluginApi.getLastRemoteReader();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    endpoint.shutdown();
+  }
+
+  @Benchmark
+  public RemoteReaderServerAdapter onMessage() {
+    plugin.onMessage(executeRemoteServiceMessage);
+    RemoteReaderServerAdapter reader =
+        (RemoteReaderServerAdapter) observableRemotePluginApi.getLastRemoteReader();
+    plugin.endRemoteServiceWithJsonOutput(reader.getName(), (String) null);
+    return reader;
+  }
+
+  @Benchmark
+  public RemoteReaderServerAdapter endRemoteService() {
+    plugin.onMessage(minimalExecuteRemoteServiceMessage);
+    RemoteReaderServerAdapter reader =
+        (RemoteReaderServerAdapter) observableRemotePluginApi.getLastRemoteReader();
+    plugin.endRemoteService(reader.getName(), outputData);
+    return reader;
+  }
+
+  @Benchmark
+  public Object getInitialCardContent(FreshRemoteReader freshRemoteReader) {
+    return freshRemoteReader.remoteReader.getInitialCardContent();
+  }
+
+  @Benchmark
+  public String executeRemotely() {
+    return remoteReader.executeRemotely(CMD_DATA);
+  }
+
+  /** Remote reader started before each invocation, whose initial card content is not resolved. */
+  @State(Scope.Thread)
+  public static class FreshRemoteReader {
+
+    RemoteReaderServerAdapter remoteReader;
+
+    @Setup(Level.Invocation)
+    public void setUp(ServerMessageBenchmark benchmark) {
+      benchmark.plugin.onMessage(benchmark.executeRemoteServiceMessage);
+      remoteReader =
+          (RemoteReaderServerAdapter) benchmark.observableRemotePluginApi.getLastRemoteReader();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown(ServerMessageBenchmark benchmark) {
+      benchmark.plugin.endRemoteServiceWithJsonOutput(remoteReader.getName(), (String) null);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks of the generation of the temporary session ID sent with each command of a
+ * session-less remote reader, before ({@link AbstractMessageHandlerAdapter#generateSessionId()})
+ * and after ({@link SessionIdGenerator#next()}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionIdBenchmark {
+
+  @Benchmark
+  public String randomUuid() {
+    return AbstractMessageHandlerAdapter.generateSessionId();
+  }
+
+  @Benchmark
+  public String monotonic() {
+    return SessionIdGenerator.next();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String randomUuidContended() {
+    return AbstractMessageHandlerAdapter.generateSessionId();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String monotonicContended() {
+    return SessionIdGenerator.next();
+  }
+}
@@ -24,15 +24,28 @@ abstract class AbstractRemotePluginAdapter extends AbstractMessageHandlerAdapter
     implements AbstractRemotePluginSpi {
 
   private final String remotePluginName;
+  private final MetricsRecorder metrics;
 
   /**
    * Constructor.
    *
    * @param remotePluginName The name of the remote plugin.
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
-  AbstractRemotePluginAdapter(String remotePluginName) {
+  AbstractRemotePluginAdapter(String remotePluginName, MetricsRecorder metrics) {
     this.remotePluginName = remotePluginName;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Gets the metrics recorder.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  final MetricsRecorder getMetrics() {
+    return metrics;
   }
 
   /**
@@ -76,10 +89,26 @@ final String executeRemotely(String jsonData, String sessionId) {
             .setBody(jsonData);
 
     // Send the message as a request.
-    MessageDto response = getNode().sendRequest(message);
+    long startTime = metrics.startTime();
+    RemoteExchangeEvent event = RemoteExchangeEvent.start();
+    MessageDto response = null;
+    boolean isSuccessful = false;
+    try {
+      response = getNode().sendRequest(message);
 
-    // Check if the result is an error raised by the Distributed layer.
-    AbstractMessageHandlerAdapter.checkError(response);
+      // Check if the result is an error raised by the Distributed layer.
+      AbstractMessageHandlerAdapter.checkError(response);
+      isSuccessful = true;
+    } finally {
+      RemoteExchangeEvent.record(
+          event, MessageDto.Action.CMD, null, sessionId, null, jsonData, isSuccessful);
+      metrics.recordExchange(
+          MessageDto.Action.CMD,
+          startTime,
+          jsonData,
+          response != null ? response.getBody() : null,
+          isSuccessful);
+    }
 
     // Return the body content.
     return response.getBody();
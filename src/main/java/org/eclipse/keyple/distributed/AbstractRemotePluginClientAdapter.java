@@ -19,16 +19,32 @@
 abstract class AbstractRemotePluginClientAdapter extends AbstractRemotePluginAdapter
     implements RemotePluginClient {
 
-  private String globalSessionId;
+  private final SessionIdPool syncSessionIdPool;
+  private final GlobalSession globalSession;
+  private final GlobalSession[] readerSessions;
 
   /**
    * Constructor.
    *
    * @param remotePluginName The name of the remote plugin.
+   * @param syncSessionIdPool The pool of session IDs to reuse with a sync node (optional).
+   * @param asyncReaderSessionsCount The number of sessions among which the remote readers are
+   *     distributed with an async node (0 if the readers share the global session).
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
-  AbstractRemotePluginClientAdapter(String remotePluginName) {
-    super(remotePluginName);
+  AbstractRemotePluginClientAdapter(
+      String remotePluginName,
+      SessionIdPool syncSessionIdPool,
+      int asyncReaderSessionsCount,
+      MetricsRecorder metrics) {
+    super(remotePluginName, metrics);
+    this.syncSessionIdPool = syncSessionIdPool;
+    this.globalSession = new GlobalSession();
+    this.readerSessions = new GlobalSession[asyncReaderSessionsCount];
+    for (int i = 0; i < asyncReaderSessionsCount; i++) {
+      readerSessions[i] = new GlobalSession();
+    }
   }
 
   /**
@@ -38,7 +54,30 @@ abstract class AbstractRemotePluginClientAdapter extends AbstractRemotePluginAda
    * @since 2.0.0
    */
   final String getGlobalSessionId() {
-    return globalSessionId;
+    return globalSession.get();
+  }
+
+  /**
+   * Gets the session ID to assign to a new remote reader.
+   *
+   * <p>With an async node, the reader is assigned to one of the reader sessions according to the
+   * hash of its name if reader sessions are enabled, or to the global session otherwise. The
+   * session is opened if needed, or awaited if it is being opened by a concurrent command, so that
+   * the reader never captures a missing session ID.
+   *
+   * @param remoteReaderName The name of the remote reader.
+   * @return Null with a sync node, the reader using a temporary session for each command.
+   * @since 2.6.0
+   */
+  final String getReaderSessionId(String remoteReaderName) {
+    if (isBoundToSyncNode()) {
+      return null;
+    }
+    if (readerSessions.length == 0) {
+      return globalSession.acquire(getNode());
+    }
+    int index = (remoteReaderName.hashCode() & Integer.MAX_VALUE) % readerSessions.length;
+    return readerSessions[index].acquire(getNode());
   }
 
   /**
@@ -62,15 +101,23 @@ public final AsyncNodeClient getAsyncNode() {
    *
    * <p>If the session ID is not set, then initialize a new one for the entire plugin's lifecycle
    * and try to open a new session.<br>
-   * This is required for async node.
+   * This is required for async node. Concurrent first calls open a single session.
+   *
+   * <p>With a sync node, a temporary session is used for each call, unless session reuse is
+   * enabled, in which case an idle session is taken from the pool and given back after a
+   * successful call.
    *
    * @since 2.0.0
    */
   @Override
   public final String executeRemotely(String jsonData) {
     if (isBoundToSyncNode()) {
+      if (syncSessionIdPool != null) {
+        // Sync node with session reuse => use a pooled session ID.
+        return executeRemotelyWithPooledSession(jsonData);
+      }
       // Sync node => use a temporal session ID.
-      String sessionId = generateSessionId();
+      String sessionId = SessionIdGenerator.next();
       try {
         getNode().openSession(sessionId);
         return executeRemotely(jsonData, sessionId);
@@ -79,11 +126,31 @@ public final String executeRemotely(String jsonData) {
       }
     } else {
       // Async node => use a global session ID.
-      if (globalSessionId == null) {
-        globalSessionId = generateSessionId();
-        getNode().openSession(globalSessionId);
+      return executeRemotely(jsonData, globalSession.acquire(getNode()));
+    }
+  }
+
+  /**
+   * Executes remotely the provided JSON data command using a session ID taken from the pool.
+   *
+   * <p>The session is given back to the pool only if the call succeeds, otherwise it is closed.
+   *
+   * @param jsonData The JSON data to send.
+   * @return A JSON string containing the response received from the distributed local service.
+   */
+  private String executeRemotelyWithPooledSession(String jsonData) {
+    String sessionId = syncSessionIdPool.acquire(getNode());
+    boolean isSuccess = false;
+    try {
+      String response = executeRemotely(jsonData, sessionId);
+      isSuccess = true;
+      return response;
+    } finally {
+      if (isSuccess) {
+        syncSessionIdPool.release(sessionId, getNode());
+      } else {
+        getNode().closeSessionSilently(sessionId);
       }
-      return executeRemotely(jsonData, globalSessionId);
     }
   }
 
@@ -94,12 +161,12 @@ public final String executeRemotely(String jsonData) {
    */
   @Override
   public final void onUnregister() {
-    if (globalSessionId != null) {
-      try {
-        getNode().closeSessionSilently(globalSessionId);
-      } finally {
-        globalSessionId = null;
-      }
+    if (syncSessionIdPool != null) {
+      syncSessionIdPool.clear(getNode());
+    }
+    globalSession.close(getNode());
+    for (GlobalSession readerSession : readerSessions) {
+      readerSession.close(getNode());
     }
   }
 }
@@ -30,6 +30,7 @@ abstract class AbstractRemoteReaderAdapter implements RemoteReaderSpi {
   private final String sessionId;
   private final String clientNodeId;
   private final AbstractNodeAdapter node;
+  private final MetricsRecorder metrics;
 
   /**
    * Constructor.
@@ -42,6 +43,7 @@ abstract class AbstractRemoteReaderAdapter implements RemoteReaderSpi {
    * @param sessionId The associated session ID.
    * @param clientNodeId The associated client node ID.
    * @param node The associated node.
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
   AbstractRemoteReaderAdapter(
@@ -52,7 +54,8 @@ abstract class AbstractRemoteReaderAdapter implements RemoteReaderSpi {
       Boolean isContactless,
       String sessionId,
       String clientNodeId,
-      AbstractNodeAdapter node) {
+      AbstractNodeAdapter node,
+      MetricsRecorder metrics) {
     this.clientDistributedApiLevel = clientDistributedApiLevel;
     this.clientCoreApiLevel = clientCoreApiLevel;
     this.remoteReaderName = remoteReaderName;
@@ -61,6 +64,7 @@ abstract class AbstractRemoteReaderAdapter implements RemoteReaderSpi {
     this.sessionId = sessionId;
     this.clientNodeId = clientNodeId;
     this.node = node;
+    this.metrics = metrics;
   }
 
   /**
@@ -109,6 +113,16 @@ final String getClientNodeId() {
     return clientNodeId;
   }
 
+  /**
+   * Gets the metrics recorder.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  final MetricsRecorder getMetrics() {
+    return metrics;
+  }
+
   /**
    * Gets the associated node.
    *
@@ -139,6 +153,38 @@ public final Boolean isContactless() {
     return isContactless;
   }
 
+  /**
+   * Invoked just before a command is sent.
+   *
+   * <p>Does nothing by default.
+   *
+   * @since 2.6.0
+   */
+  void onCommandStart() {
+    // NOP
+  }
+
+  /**
+   * Invoked just after the response of a command is received, or its sending has failed.
+   *
+   * <p>Does nothing by default.
+   *
+   * @since 2.6.0
+   */
+  void onCommandEnd() {
+    // NOP
+  }
+
+  /**
+   * Gets the ID of the remote service associated to the reader, used to describe the exchanges.
+   *
+   * @return Null by default.
+   * @since 2.6.0
+   */
+  String getRemoteServiceId() {
+    return null;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -147,6 +193,8 @@ public final Boolean isContactless() {
   @Override
   public final String executeRemotely(String jsonData) {
 
+    onCommandStart();
+
     // Build the message.
     MessageDto message =
         new MessageDto()
@@ -155,15 +203,37 @@ public final String executeRemotely(String jsonData) {
             .setRemoteReaderName(remoteReaderName)
             .setLocalReaderName(localReaderName)
             .setClientNodeId(clientNodeId)
-            .setSessionId(
-                sessionId != null ? sessionId : AbstractMessageHandlerAdapter.generateSessionId())
+            .setSessionId(sessionId != null ? sessionId : SessionIdGenerator.next())
             .setBody(jsonData);
 
     // Send the message as a request.
-    MessageDto response = node.sendRequest(message);
-
-    // Check if the result is an error raised by the Distributed layer.
-    AbstractMessageHandlerAdapter.checkError(response);
+    long startTime = metrics.startTime();
+    RemoteExchangeEvent event = RemoteExchangeEvent.start();
+    MessageDto response = null;
+    boolean isSuccessful = false;
+    try {
+      response = node.sendRequest(message);
+
+      // Check if the result is an error raised by the Distributed layer.
+      AbstractMessageHandlerAdapter.checkError(response);
+      isSuccessful = true;
+    } finally {
+      onCommandEnd();
+      RemoteExchangeEvent.record(
+          event,
+          Action.CMD,
+          remoteReaderName,
+          message.getSessionId(),
+          getRemoteServiceId(),
+          jsonData,
+          isSuccessful);
+      metrics.recordExchange(
+          Action.CMD,
+          startTime,
+          jsonData,
+          response != null ? response.getBody() : null,
+          isSuccessful);
+    }
 
     // Return the body content.
     return response.getBody();
@@ -0,0 +1,85 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.MessageDto.*;
+
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
+
+/**
+ * Decorator of a {@link SyncEndpointClientSpi} applying an adaptive polling to the checks of plugin
+ * and/or reader events.
+ *
+ * <p>The sync node keeps polling at the fixed minimum frequency, but the {@link
+ * Action#CHECK_PLUGIN_EVENT} and {@link Action#CHECK_READER_EVENT} requests are only forwarded to
+ * the server when they are due according to their {@link PollingBackoff}. The other ones are
+ * answered locally with an empty list of events, as the server would do. All the other requests
+ * are forwarded as is.
+ *
+ * @since 2.6.0
+ */
+final class AdaptivePollingSyncEndpointClient implements SyncEndpointClientSpi {
+
+  private final SyncEndpointClientSpi endpoint;
+  private final PollingBackoff pluginEventsBackoff;
+  private final PollingBackoff readerEventsBackoff;
+
+  /**
+   * Constructor.
+   *
+   * @param endpoint The decorated endpoint.
+   * @param pluginEventsBackoff The backoff of the plugin events checks (optional).
+   * @param readerEventsBackoff The backoff of the reader events checks (optional).
+   * @since 2.6.0
+   */
+  AdaptivePollingSyncEndpointClient(
+      SyncEndpointClientSpi endpoint,
+      PollingBackoff pluginEventsBackoff,
+      PollingBackoff readerEventsBackoff) {
+    this.endpoint = endpoint;
+    this.pluginEventsBackoff = pluginEventsBackoff;
+    this.readerEventsBackoff = readerEventsBackoff;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<MessageDto> sendRequest(MessageDto message) {
+    PollingBackoff backoff;
+    if (Action.CHECK_PLUGIN_EVENT.name().equals(message.getAction())) {
+      backoff = pluginEventsBackoff;
+    } else if (Action.CHECK_READER_EVENT.name().equals(message.getAction())) {
+      backoff = readerEventsBackoff;
+    } else {
+      backoff = null;
+    }
+    if (backoff == null) {
+      return endpoint.sendRequest(message);
+    }
+    long now = System.nanoTime();
+    if (!backoff.isPollDue(now)) {
+      return Collections.emptyList();
+    }
+    List<MessageDto> responses = null;
+    try {
+      responses = endpoint.sendRequest(message);
+    } finally {
+      backoff.onPolled(now, responses != null && !responses.isEmpty());
+    }
+    return responses;
+  }
+}
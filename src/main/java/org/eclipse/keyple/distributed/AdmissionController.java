@@ -0,0 +1,139 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of concurrent remote readers, globally and per client node.
+ *
+ * <p>A permit is reserved with {@link #tryAcquire(String)} before the creation of a remote reader,
+ * and must be given back with {@link #release(String)} once the remote reader is removed, or if
+ * its creation fails. The counters of the client nodes are removed when they drop to zero, so that
+ * their number remains bounded by the number of active remote readers.
+ *
+ * @since 2.6.0
+ */
+final class AdmissionController {
+
+  private final int maxRemoteReaders;
+  private final int maxRemoteReadersPerClient;
+  private final AtomicInteger remoteReadersCount;
+  private final ConcurrentMap<String, Integer> clientRemoteReadersCounts;
+
+  /**
+   * Constructor.
+   *
+   * @param maxRemoteReaders The maximum number of concurrent remote readers, or 0 if unlimited.
+   * @param maxRemoteReadersPerClient The maximum number of concurrent remote readers per client
+   *     node, or 0 if unlimited.
+   * @since 2.6.0
+   */
+  AdmissionController(int maxRemoteReaders, int maxRemoteReadersPerClient) {
+    this.maxRemoteReaders = maxRemoteReaders;
+    this.maxRemoteReadersPerClient = maxRemoteReadersPerClient;
+    this.remoteReadersCount = new AtomicInteger();
+    this.clientRemoteReadersCounts = new ConcurrentHashMap<String, Integer>();
+  }
+
+  /**
+   * Tries to reserve a permit for a new remote reader of the provided client node.
+   *
+   * @param clientNodeId The client node ID (optional, the limit per client node is not applied if
+   *     null).
+   * @return Null if the permit is granted, or the description of the exceeded limit otherwise.
+   * @since 2.6.0
+   */
+  String tryAcquire(String clientNodeId) {
+    if (maxRemoteReaders > 0 && !tryIncrementRemoteReadersCount()) {
+      return String.format("maximum number of remote readers [%d] reached", maxRemoteReaders);
+    }
+    if (maxRemoteReadersPerClient > 0
+        && clientNodeId != null
+        && !tryIncrementClientRemoteReadersCount(clientNodeId)) {
+      if (maxRemoteReaders > 0) {
+        remoteReadersCount.decrementAndGet();
+      }
+      return String.format(
+          "maximum number of remote readers per client node [%d] reached for client node [%s]",
+          maxRemoteReadersPerClient, clientNodeId);
+    }
+    return null;
+  }
+
+  /**
+   * Gives back a permit previously granted to the provided client node.
+   *
+   * @param clientNodeId The client node ID provided when the permit was acquired.
+   * @since 2.6.0
+   */
+  void release(String clientNodeId) {
+    if (maxRemoteReaders > 0) {
+      remoteReadersCount.decrementAndGet();
+    }
+    if (maxRemoteReadersPerClient > 0 && clientNodeId != null) {
+      clientRemoteReadersCounts.computeIfPresent(
+          clientNodeId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+
+  /**
+   * Gets the current number of remote readers of the provided client node.
+   *
+   * @param clientNodeId The client node ID.
+   * @return 0 if the limit per client node is not enabled.
+   * @since 2.6.0
+   */
+  int getClientRemoteReadersCount(String clientNodeId) {
+    Integer count = clientRemoteReadersCounts.get(clientNodeId);
+    return count != null ? count : 0;
+  }
+
+  /**
+   * Increments the global counter if it is below the limit.
+   *
+   * @return True if the counter was incremented.
+   */
+  private boolean tryIncrementRemoteReadersCount() {
+    int count;
+    do {
+      count = remoteReadersCount.get();
+      if (count >= maxRemoteReaders) {
+        return false;
+      }
+    } while (!remoteReadersCount.compareAndSet(count, count + 1));
+    return true;
+  }
+
+  /**
+   * Increments the counter of the provided client node if it is below the limit.
+   *
+   * @param clientNodeId The client node ID.
+   * @return True if the counter was incremented.
+   */
+  private boolean tryIncrementClientRemoteReadersCount(String clientNodeId) {
+    final boolean[] isIncremented = new boolean[1];
+    clientRemoteReadersCounts.compute(
+        clientNodeId,
+        (id, count) -> {
+          int current = count != null ? count : 0;
+          if (current >= maxRemoteReadersPerClient) {
+            return count;
+          }
+          isIncremented[0] = true;
+          return current + 1;
+        });
+    return isIncremented[0];
+  }
+}
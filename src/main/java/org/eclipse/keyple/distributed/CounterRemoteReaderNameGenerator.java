@@ -0,0 +1,43 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import org.eclipse.keyple.distributed.spi.RemoteReaderNameGeneratorSpi;
+
+/**
+ * Default {@link RemoteReaderNameGeneratorSpi}, generating names with {@link SessionIdGenerator}:
+ * a random prefix drawn once per class loader followed by the value of a monotonic counter.
+ *
+ * <p>The random prefix prevents a name from being reused after a restart of the server, while the
+ * counter makes the generation contention-free.
+ *
+ * @since 2.6.0
+ */
+final class CounterRemoteReaderNameGenerator implements RemoteReaderNameGeneratorSpi {
+
+  /**
+   * Constructor.
+   *
+   * @since 2.6.0
+   */
+  CounterRemoteReaderNameGenerator() {}
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String generateRemoteReaderName(String serviceId, String clientNodeId) {
+    return SessionIdGenerator.next();
+  }
+}
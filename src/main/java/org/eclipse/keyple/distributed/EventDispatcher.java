@@ -0,0 +1,152 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.MessageDto.*;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the {@link Action#PLUGIN_EVENT} and {@link Action#READER_EVENT} messages received by a
+ * remote plugin client to the Core API.
+ *
+ * <p>If an executor service is provided, the events are delivered asynchronously, but one at a
+ * time and in their reception order, by a drain task submitted only when no other one is pending.
+ * Otherwise, they are delivered synchronously by the thread which received the message.
+ *
+ * @since 2.6.0
+ */
+final class EventDispatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(EventDispatcher.class);
+
+  private final String remotePluginName;
+  private final ExecutorService executorService;
+  private final EventConsumer consumer;
+  private final Queue<PendingEvent> pendingEvents;
+  private final AtomicBoolean isDrainScheduled;
+
+  /**
+   * Constructor.
+   *
+   * @param remotePluginName The name of the remote plugin, for logging purpose.
+   * @param executorService The executor service to use to deliver the events (optional).
+   * @param consumer The consumer of the events.
+   * @since 2.6.0
+   */
+  EventDispatcher(
+      String remotePluginName, ExecutorService executorService, EventConsumer consumer) {
+    this.remotePluginName = remotePluginName;
+    this.executorService = executorService;
+    this.consumer = consumer;
+    this.pendingEvents = new ConcurrentLinkedQueue<PendingEvent>();
+    this.isDrainScheduled = new AtomicBoolean();
+  }
+
+  /**
+   * Delivers or schedules the delivery of the event carried by the provided message.
+   *
+   * @param message The event message.
+   * @param startTime The reception time of the message, for the metrics.
+   * @throws RejectedExecutionException If the executor service rejects the delivery.
+   * @since 2.6.0
+   */
+  void dispatch(MessageDto message, long startTime) {
+    Action action = Action.valueOf(message.getAction());
+    if (executorService == null) {
+      consumer.onEvent(action, message.getBody(), startTime);
+      return;
+    }
+    pendingEvents.add(new PendingEvent(action, message.getBody(), startTime));
+    scheduleDrain();
+  }
+
+  /**
+   * Submits a drain task if none is pending.
+   *
+   * @throws RejectedExecutionException If the executor service rejects the task.
+   */
+  private void scheduleDrain() {
+    if (!isDrainScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executorService.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      isDrainScheduled.set(false);
+      throw e;
+    }
+  }
+
+  /** Delivers the pending events until there is none left. */
+  private void drain() {
+    do {
+      PendingEvent event;
+      while ((event = pendingEvents.poll()) != null) {
+        deliver(event);
+      }
+      isDrainScheduled.set(false);
+    } while (!pendingEvents.isEmpty() && isDrainScheduled.compareAndSet(false, true));
+  }
+
+  /**
+   * Delivers the provided event to the consumer, logging the failure if any.
+   *
+   * @param event The event.
+   */
+  private void deliver(PendingEvent event) {
+    try {
+      consumer.onEvent(event.action, event.body, event.startTime);
+    } catch (RuntimeException e) {
+      logger.error(
+          "Plugin [{}] failed to deliver event (action: {})", remotePluginName, event.action, e);
+    }
+  }
+
+  /**
+   * Consumer of the events.
+   *
+   * @since 2.6.0
+   */
+  interface EventConsumer {
+
+    /**
+     * Delivers an event to the Core API.
+     *
+     * @param action The type of event.
+     * @param body The body of the event.
+     * @param startTime The reception time of the event, for the metrics.
+     * @since 2.6.0
+     */
+    void onEvent(Action action, String body, long startTime);
+  }
+
+  /** An event waiting for delivery. */
+  private static final class PendingEvent {
+
+    private final Action action;
+    private final String body;
+    private final long startTime;
+
+    private PendingEvent(Action action, String body, long startTime) {
+      this.action = action;
+      this.body = body;
+      this.startTime = startTime;
+    }
+  }
+}
@@ -0,0 +1,244 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.MessageDto.*;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * Content of the body of a message associated to the {@link Action#EXECUTE_REMOTE_SERVICE} action.
+ *
+ * <p>The body is decoded in a single streaming pass, without building an intermediate JSON tree.
+ * The nested initial card content and input data are captured as JSON strings, to be deserialized
+ * later only if requested by the ticketing service.
+ *
+ * <p>Both layouts are supported:
+ *
+ * <ul>
+ *   <li>API level 0: the properties are named after {@link JsonProperty#name()} and the nested
+ *       contents are transmitted as JSON strings.
+ *   <li>API level {@code >=} 1: the properties are named after {@link JsonProperty#getKey()} and
+ *       the nested contents are transmitted as JSON objects.
+ * </ul>
+ *
+ * @since 2.6.0
+ */
+final class ExecuteRemoteServiceBody {
+
+  private boolean isKeyLayout;
+  private int coreApiLevel = -1;
+  private String serviceId;
+  private Boolean isReaderContactless;
+  private String initialCardContentJson;
+  private String initialCardContentClassName;
+  private String inputDataJson;
+
+  /** Constructor. */
+  private ExecuteRemoteServiceBody() {}
+
+  /**
+   * Decodes the provided body.
+   *
+   * @param body The JSON body to decode.
+   * @return A not null reference.
+   * @throws JsonSyntaxException If the body is malformed.
+   * @since 2.6.0
+   */
+  static ExecuteRemoteServiceBody decode(String body) {
+    ExecuteRemoteServiceBody result = new ExecuteRemoteServiceBody();
+    JsonReader reader = new JsonReader(new StringReader(body));
+    reader.setLenient(true);
+    try {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        result.readProperty(reader.nextName(), reader);
+      }
+      reader.endObject();
+    } catch (IOException | IllegalStateException | NumberFormatException e) {
+      throw new JsonSyntaxException(e);
+    }
+    return result;
+  }
+
+  /**
+   * Reads the value of the provided property, or skips it if it is not expected.
+   *
+   * @param name The property name.
+   * @param reader The reader positioned on the property value.
+   * @throws IOException If the value is malformed.
+   */
+  private void readProperty(String name, JsonReader reader) throws IOException {
+    if (JsonProperty.SERVICE_ID.getKey().equals(name)) {
+      isKeyLayout = true;
+      serviceId = reader.nextString();
+    } else if (JsonProperty.SERVICE_ID.name().equals(name)) {
+      serviceId = reader.nextString();
+    } else if (JsonProperty.CORE_API_LEVEL.getKey().equals(name)) {
+      coreApiLevel = reader.nextInt();
+    } else if (JsonProperty.IS_READER_CONTACTLESS.getKey().equals(name)) {
+      isReaderContactless = reader.nextBoolean();
+    } else if (isProperty(JsonProperty.INITIAL_CARD_CONTENT, name)) {
+      initialCardContentJson = readRawJson(reader);
+    } else if (isProperty(JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME, name)) {
+      initialCardContentClassName = reader.nextString();
+    } else if (isProperty(JsonProperty.INPUT_DATA, name)) {
+      inputDataJson = readRawJson(reader);
+    } else {
+      reader.skipValue();
+    }
+  }
+
+  /**
+   * Checks if the provided name designates the provided property in one of the two layouts.
+   *
+   * @param property The property.
+   * @param name The name to check.
+   * @return True if the name matches.
+   */
+  private static boolean isProperty(JsonProperty property, String name) {
+    return property.getKey().equals(name) || property.name().equals(name);
+  }
+
+  /**
+   * Reads the current value as a raw JSON string.
+   *
+   * <p>A string value (API level 0) is returned as is, whereas a structured value (API level
+   * {@code >=} 1) is copied token by token to its compact JSON representation.
+   *
+   * @param reader The reader positioned on the value.
+   * @return Null if the value is null.
+   * @throws IOException If the value is malformed.
+   */
+  private static String readRawJson(JsonReader reader) throws IOException {
+    switch (reader.peek()) {
+      case NULL:
+        reader.nextNull();
+        return null;
+      case STRING:
+        return reader.nextString();
+      default:
+        StringWriter json = new StringWriter();
+        copyValue(reader, new JsonWriter(json));
+        return json.toString();
+    }
+  }
+
+  /**
+   * Copies the current value from the reader to the writer.
+   *
+   * @param reader The source reader.
+   * @param writer The target writer.
+   * @throws IOException If the value is malformed.
+   */
+  private static void copyValue(JsonReader reader, JsonWriter writer) throws IOException {
+    switch (reader.peek()) {
+      case BEGIN_OBJECT:
+        reader.beginObject();
+        writer.beginObject();
+        while (reader.hasNext()) {
+          writer.name(reader.nextName());
+          copyValue(reader, writer);
+        }
+        reader.endObject();
+        writer.endObject();
+        break;
+      case BEGIN_ARRAY:
+        reader.beginArray();
+        writer.beginArray();
+        while (reader.hasNext()) {
+          copyValue(reader, writer);
+        }
+        reader.endArray();
+        writer.endArray();
+        break;
+      case STRING:
+        writer.value(reader.nextString());
+        break;
+      case NUMBER:
+        writer.jsonValue(reader.nextString());
+        break;
+      case BOOLEAN:
+        writer.value(reader.nextBoolean());
+        break;
+      case NULL:
+        reader.nextNull();
+        writer.nullValue();
+        break;
+      default:
+        throw new IllegalStateException("Unexpected JSON token: " + reader.peek());
+    }
+  }
+
+  /**
+   * Indicates if the service ID was transmitted using the layout of the API level {@code >=} 1.
+   *
+   * @return True if the API level {@code >=} 1 layout is used.
+   * @since 2.6.0
+   */
+  boolean isKeyLayout() {
+    return isKeyLayout;
+  }
+
+  /**
+   * @return The API level of the client Core layer, or -1 if unknown.
+   * @since 2.6.0
+   */
+  int getCoreApiLevel() {
+    return coreApiLevel;
+  }
+
+  /**
+   * @return The service ID, or null if not transmitted.
+   * @since 2.6.0
+   */
+  String getServiceId() {
+    return serviceId;
+  }
+
+  /**
+   * @return Null if not transmitted.
+   * @since 2.6.0
+   */
+  Boolean isReaderContactless() {
+    return isReaderContactless;
+  }
+
+  /**
+   * @return The initial card content as a JSON string, or null if not transmitted.
+   * @since 2.6.0
+   */
+  String getInitialCardContentJson() {
+    return initialCardContentJson;
+  }
+
+  /**
+   * @return The class name of the initial card content, or null if not transmitted.
+   * @since 2.6.0
+   */
+  String getInitialCardContentClassName() {
+    return initialCardContentClassName;
+  }
+
+  /**
+   * @return The input data as a JSON string, or null if not transmitted.
+   * @since 2.6.0
+   */
+  String getInputDataJson() {
+    return inputDataJson;
+  }
+}
@@ -0,0 +1,173 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Session shared by all the commands of a plugin bound to an async node, opened lazily on first
+ * use.
+ *
+ * <p>The lifecycle is a lock-free state machine ({@code NONE -> OPENING -> OPEN -> CLOSING ->
+ * NONE}) driven by compare-and-set operations: only the thread which wins the transition to {@code
+ * OPENING} opens the session, while the concurrent callers wait for the outcome instead of opening
+ * duplicate sessions. Once the session is open, {@link #acquire(AbstractNodeAdapter)} is a single
+ * volatile read.
+ *
+ * @since 2.6.0
+ */
+final class GlobalSession {
+
+  private final AtomicReference<Snapshot> snapshot;
+
+  /**
+   * Constructor.
+   *
+   * @since 2.6.0
+   */
+  GlobalSession() {
+    this.snapshot = new AtomicReference<Snapshot>(Snapshot.NONE);
+  }
+
+  /**
+   * Gets the ID of the session if it is open.
+   *
+   * @return Null if the session is not open.
+   * @since 2.6.0
+   */
+  String get() {
+    Snapshot current = snapshot.get();
+    return current.state == State.OPEN ? current.sessionId : null;
+  }
+
+  /**
+   * Gets the ID of the session, opening it on the provided node if needed.
+   *
+   * @param node The node to use to open the session.
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  String acquire(AbstractNodeAdapter node) {
+    while (true) {
+      Snapshot current = snapshot.get();
+      switch (current.state) {
+        case OPEN:
+          return current.sessionId;
+        case NONE:
+          Snapshot opening = new Snapshot(State.OPENING, SessionIdGenerator.next());
+          if (snapshot.compareAndSet(current, opening)) {
+            return open(opening, node);
+          }
+          break;
+        default:
+          // OPENING or CLOSING => wait for the transition in progress.
+          current.awaitCompletion();
+      }
+    }
+  }
+
+  /**
+   * Opens the session on behalf of the thread which won the transition to {@code OPENING}.
+   *
+   * @param opening The {@code OPENING} snapshot installed by the caller.
+   * @param node The node to use to open the session.
+   * @return The session ID.
+   */
+  private String open(Snapshot opening, AbstractNodeAdapter node) {
+    try {
+      node.openSession(opening.sessionId);
+    } catch (RuntimeException e) {
+      snapshot.compareAndSet(opening, Snapshot.NONE);
+      opening.complete();
+      throw e;
+    }
+    snapshot.compareAndSet(opening, new Snapshot(State.OPEN, opening.sessionId));
+    opening.complete();
+    return opening.sessionId;
+  }
+
+  /**
+   * Closes the session if it is open, waiting for any opening in progress.
+   *
+   * @param node The node to use to close the session.
+   * @since 2.6.0
+   */
+  void close(AbstractNodeAdapter node) {
+    while (true) {
+      Snapshot current = snapshot.get();
+      switch (current.state) {
+        case NONE:
+          return;
+        case OPEN:
+          Snapshot closing = new Snapshot(State.CLOSING, current.sessionId);
+          if (snapshot.compareAndSet(current, closing)) {
+            try {
+              node.closeSessionSilently(closing.sessionId);
+            } finally {
+              snapshot.set(Snapshot.NONE);
+              closing.complete();
+            }
+            return;
+          }
+          break;
+        default:
+          // OPENING or CLOSING => wait for the transition in progress.
+          current.awaitCompletion();
+      }
+    }
+  }
+
+  /** States of the session. */
+  private enum State {
+    NONE,
+    OPENING,
+    OPEN,
+    CLOSING
+  }
+
+  /** Immutable state of the session, with a latch released when a transient state is left. */
+  private static final class Snapshot {
+
+    private static final Snapshot NONE = new Snapshot(State.NONE, null);
+
+    private final State state;
+    private final String sessionId;
+    private final CountDownLatch completion;
+
+    private Snapshot(State state, String sessionId) {
+      this.state = state;
+      this.sessionId = sessionId;
+      this.completion =
+          state == State.OPENING || state == State.CLOSING ? new CountDownLatch(1) : null;
+    }
+
+    private void complete() {
+      completion.countDown();
+    }
+
+    private void awaitCompletion() {
+      boolean isInterrupted = false;
+      while (true) {
+        try {
+          completion.await();
+          break;
+        } catch (InterruptedException e) {
+          isInterrupted = true;
+        }
+      }
+      if (isInterrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of occurrences of a log line per second, and counts the suppressed
+ * occurrences so that they can be reported by the next logged line.
+ *
+ * <p>The limit is applied on fixed windows of one second, using only atomic operations. It is
+ * approximate under contention, which is acceptable for logging purposes.
+ *
+ * @since 2.6.0
+ */
+final class LogRateLimiter {
+
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final int maxLogsPerSecond;
+  private final AtomicLong windowStartNanos;
+  private final AtomicInteger windowLogsCount;
+  private final AtomicLong suppressedLogsCount;
+
+  /**
+   * Constructor.
+   *
+   * @param maxLogsPerSecond The maximum number of logs per second.
+   * @since 2.6.0
+   */
+  LogRateLimiter(int maxLogsPerSecond) {
+    this.maxLogsPerSecond = maxLogsPerSecond;
+    this.windowStartNanos = new AtomicLong(System.nanoTime());
+    this.windowLogsCount = new AtomicInteger();
+    this.suppressedLogsCount = new AtomicLong();
+  }
+
+  /**
+   * Tries to acquire the permission to log a new occurrence.
+   *
+   * @return The number of occurrences suppressed since the last permitted one, or -1 if this
+   *     occurrence must be suppressed.
+   * @since 2.6.0
+   */
+  long tryAcquire() {
+    long now = System.nanoTime();
+    long windowStart = windowStartNanos.get();
+    if (now - windowStart >= WINDOW_NANOS && windowStartNanos.compareAndSet(windowStart, now)) {
+      windowLogsCount.set(0);
+    }
+    if (windowLogsCount.incrementAndGet() <= maxLogsPerSecond) {
+      return suppressedLogsCount.getAndSet(0);
+    }
+    suppressedLogsCount.incrementAndGet();
+    return -1;
+  }
+}
@@ -0,0 +1,121 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
+import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
+
+/**
+ * In-JVM network connecting a client node to a server node without any real transport, with an
+ * optional simulation of the network latency, jitter and bandwidth.
+ *
+ * <p>It is intended for local end-to-end testing and benchmarking of the full remote service round
+ * trips: each message is serialized in JSON, delayed according to its size and the configured
+ * characteristics, then deserialized and delivered to the other side.
+ *
+ * <p>Usage with a synchronous protocol:
+ *
+ * <ol>
+ *   <li>Provide {@link #getSyncEndpointClient()} to the client builder.
+ *   <li>Once the server service is registered, bind its node using {@link
+ *       #bindSyncNodeServer(SyncNodeServer)}.
+ * </ol>
+ *
+ * <p>Usage with an asynchronous protocol:
+ *
+ * <ol>
+ *   <li>Provide {@link #getAsyncEndpointClient()} to the client builder and {@link
+ *       #getAsyncEndpointServer()} to the server builder.
+ *   <li>Once both services are registered, bind their nodes using {@link
+ *       #bindAsyncNodeClient(AsyncNodeClient)} and {@link #bindAsyncNodeServer(AsyncNodeServer)}.
+ * </ol>
+ *
+ * <p>The asynchronous messages of a session are delivered in their sending order, one at a time,
+ * by a daemon thread; the sessions are delivered independently of each other. As with a real
+ * network, a node receiving a message must not block the delivery thread while waiting for another
+ * message of the same session: the remote plugin server must be configured with an executor
+ * service.
+ *
+ * <p><b>This network is a testing tool, not intended for production use.</b> It provides no
+ * security, no flow control and no memory bounds, and may change in a future version.
+ *
+ * @see LoopbackNetworkBuilder
+ * @since 2.6.0
+ */
+public interface LoopbackNetwork {
+
+  /**
+   * Gets the endpoint to provide to a client service configured with a {@link SyncNodeClient} node.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  SyncEndpointClientSpi getSyncEndpointClient();
+
+  /**
+   * Binds the {@link SyncNodeServer} node of the server service to which the requests sent by the
+   * sync client endpoint are forwarded.
+   *
+   * @param node The server node.
+   * @throws IllegalArgumentException If the node is null.
+   * @since 2.6.0
+   */
+  void bindSyncNodeServer(SyncNodeServer node);
+
+  /**
+   * Gets the endpoint to provide to a client service configured with a {@link AsyncNodeClient}
+   * node.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  AsyncEndpointClientSpi getAsyncEndpointClient();
+
+  /**
+   * Binds the {@link AsyncNodeClient} node of the client service to which the messages sent by the
+   * async server endpoint are delivered.
+   *
+   * @param node The client node.
+   * @throws IllegalArgumentException If the node is null.
+   * @since 2.6.0
+   */
+  void bindAsyncNodeClient(AsyncNodeClient node);
+
+  /**
+   * Gets the endpoint to provide to a server service configured with a {@link AsyncNodeServer}
+   * node.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  AsyncEndpointServerSpi getAsyncEndpointServer();
+
+  /**
+   * Binds the {@link AsyncNodeServer} node of the server service to which the messages sent by the
+   * async client endpoint are delivered.
+   *
+   * @param node The server node.
+   * @throws IllegalArgumentException If the node is null.
+   * @since 2.6.0
+   */
+  void bindAsyncNodeServer(AsyncNodeServer node);
+
+  /**
+   * Stops the threads used to deliver the asynchronous messages.
+   *
+   * <p>The messages not yet delivered are lost.
+   *
+   * @since 2.6.0
+   */
+  void shutdown();
+}
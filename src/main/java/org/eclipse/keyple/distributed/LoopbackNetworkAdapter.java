@@ -0,0 +1,404 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.keyple.core.util.Assert;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
+import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adapter of {@link LoopbackNetwork}.
+ *
+ * <p>The asynchronous messages are delivered through one lane per session and direction, each
+ * lane delivering its messages one at a time in their sending order on a thread of a shared pool.
+ *
+ * @since 2.6.0
+ */
+final class LoopbackNetworkAdapter implements LoopbackNetwork {
+
+  private static final Logger logger = LoggerFactory.getLogger(LoopbackNetworkAdapter.class);
+
+  private static final AtomicInteger networkCount = new AtomicInteger();
+
+  private final long latencyNanos;
+  private final long jitterNanos;
+  private final int bytesPerSecond;
+  private final SyncEndpointClientSpi syncEndpointClient;
+  private final AsyncEndpointClientSpi asyncEndpointClient;
+  private final AsyncEndpointServerSpi asyncEndpointServer;
+  private final ExecutorService deliveryExecutor;
+  private final ConcurrentMap<String, DeliveryLane> deliveryLanes;
+
+  private volatile SyncNodeServer syncNodeServer;
+  private volatile AsyncNodeClient asyncNodeClient;
+  private volatile AsyncNodeServer asyncNodeServer;
+
+  /**
+   * Constructor.
+   *
+   * @param latencyMillis The one-way latency (in milliseconds).
+   * @param jitterMillis The maximum jitter (in milliseconds).
+   * @param bytesPerSecond The bandwidth (in bytes per second), or 0 if unlimited.
+   * @since 2.6.0
+   */
+  LoopbackNetworkAdapter(int latencyMillis, int jitterMillis, int bytesPerSecond) {
+    this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+    this.jitterNanos = TimeUnit.MILLISECONDS.toNanos(jitterMillis);
+    this.bytesPerSecond = bytesPerSecond;
+    this.syncEndpointClient = new SyncEndpointClient();
+    this.asyncEndpointClient = new AsyncEndpointClient();
+    this.asyncEndpointServer = new AsyncEndpointServer();
+    String threadNamePrefix = "keyple-loopback-network-" + networkCount.incrementAndGet();
+    this.deliveryExecutor =
+        Executors.newCachedThreadPool(new DaemonThreadFactory(threadNamePrefix + "-delivery"));
+    this.deliveryLanes = new ConcurrentHashMap<String, DeliveryLane>();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public SyncEndpointClientSpi getSyncEndpointClient() {
+    return syncEndpointClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void bindSyncNodeServer(SyncNodeServer node) {
+    Assert.getInstance().notNull(node, "node");
+    this.syncNodeServer = node;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public AsyncEndpointClientSpi getAsyncEndpointClient() {
+    return asyncEndpointClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void bindAsyncNodeClient(AsyncNodeClient node) {
+    Assert.getInstance().notNull(node, "node");
+    this.asyncNodeClient = node;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public AsyncEndpointServerSpi getAsyncEndpointServer() {
+    return asyncEndpointServer;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void bindAsyncNodeServer(AsyncNodeServer node) {
+    Assert.getInstance().notNull(node, "node");
+    this.asyncNodeServer = node;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void shutdown() {
+    deliveryExecutor.shutdownNow();
+    deliveryLanes.clear();
+  }
+
+  /**
+   * Computes the transmission delay of a message.
+   *
+   * @param size The size of the message (in bytes).
+   * @return A positive value (in nanoseconds).
+   */
+  private long computeDelayNanos(int size) {
+    long delay = latencyNanos;
+    if (jitterNanos > 0) {
+      delay += ThreadLocalRandom.current().nextLong(jitterNanos + 1);
+    }
+    if (bytesPerSecond > 0) {
+      delay += size * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+    }
+    return delay;
+  }
+
+  /**
+   * Blocks the current thread during the transmission delay of a message.
+   *
+   * @param size The size of the message (in bytes).
+   */
+  private void sleepTransmissionDelay(int size) {
+    long delay = computeDelayNanos(size);
+    if (delay > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted during the transmission of a message", e);
+      }
+    }
+  }
+
+  /**
+   * Delivers the provided task through the lane of the session and direction after the
+   * transmission delay of a message.
+   *
+   * <p>The tasks of a lane are executed in their submission order, a task never being executed
+   * before the delivery time of the previous one, so that the jitter cannot reorder the messages.
+   *
+   * @param sessionId The session ID.
+   * @param isToServer True if the message is sent to the server node.
+   * @param size The size of the message (in bytes).
+   * @param delivery The delivery task.
+   */
+  private void deliverLater(String sessionId, boolean isToServer, int size, Runnable delivery) {
+    String key = (isToServer ? "server:" : "client:") + sessionId;
+    DeliveryLane lane = deliveryLanes.get(key);
+    if (lane == null) {
+      DeliveryLane newLane = new DeliveryLane();
+      lane = deliveryLanes.putIfAbsent(key, newLane);
+      if (lane == null) {
+        lane = newLane;
+      }
+    }
+    lane.submit(System.nanoTime() + computeDelayNanos(size), delivery);
+  }
+
+  /**
+   * Removes the delivery lanes of a closed session.
+   *
+   * @param sessionId The session ID.
+   */
+  private void removeDeliveryLanes(String sessionId) {
+    deliveryLanes.remove("server:" + sessionId);
+    deliveryLanes.remove("client:" + sessionId);
+  }
+
+  /**
+   * Decodes a message transmitted over the network.
+   *
+   * @param json The JSON representation of the message.
+   * @return A new instance.
+   */
+  private static MessageDto decode(String json) {
+    return JsonUtil.getParser().fromJson(json, MessageDto.class);
+  }
+
+  /**
+   * Gets the bound node or throws an exception if it is not bound.
+   *
+   * @param node The node.
+   * @param nodeType The node type.
+   * @param <T> The node type.
+   * @return A not null reference.
+   * @throws IllegalStateException If the node is not bound.
+   */
+  private static <T> T getBoundNode(T node, String nodeType) {
+    if (node == null) {
+      throw new IllegalStateException(
+          String.format("No %s node is bound to the loopback network", nodeType));
+    }
+    return node;
+  }
+
+  /** Sync client endpoint forwarding the requests to the bound sync server node. */
+  private final class SyncEndpointClient implements SyncEndpointClientSpi {
+
+    @Override
+    public List<MessageDto> sendRequest(MessageDto message) {
+      SyncNodeServer node = getBoundNode(syncNodeServer, "SyncNodeServer");
+      String request = JsonUtil.toJson(message);
+      sleepTransmissionDelay(request.length());
+      List<MessageDto> responses = node.onRequest(decode(request));
+      List<MessageDto> result = new ArrayList<MessageDto>(responses.size());
+      int size = 0;
+      for (MessageDto response : responses) {
+        String json = JsonUtil.toJson(response);
+        size += json.length();
+        result.add(decode(json));
+      }
+      sleepTransmissionDelay(size);
+      return result;
+    }
+  }
+
+  /** Async client endpoint delivering the messages to the bound async server node. */
+  private final class AsyncEndpointClient implements AsyncEndpointClientSpi {
+
+    @Override
+    public void openSession(final String sessionId) {
+      final AsyncNodeClient node = getBoundNode(asyncNodeClient, "AsyncNodeClient");
+      deliverLater(sessionId, false, 0, () -> node.onOpen(sessionId));
+    }
+
+    @Override
+    public void sendMessage(MessageDto message) {
+      final AsyncNodeServer node = getBoundNode(asyncNodeServer, "AsyncNodeServer");
+      final String json = JsonUtil.toJson(message);
+      deliverLater(
+          message.getSessionId(), true, json.length(), () -> node.onMessage(decode(json)));
+    }
+
+    @Override
+    public void closeSession(final String sessionId) {
+      final AsyncNodeClient clientNode = getBoundNode(asyncNodeClient, "AsyncNodeClient");
+      final AsyncNodeServer serverNode = asyncNodeServer;
+      deliverLater(
+          sessionId,
+          true,
+          0,
+          () -> {
+            removeDeliveryLanes(sessionId);
+            if (serverNode != null) {
+              serverNode.onClose(sessionId);
+            }
+            clientNode.onClose(sessionId);
+          });
+    }
+  }
+
+  /** Async server endpoint delivering the messages to the bound async client node. */
+  private final class AsyncEndpointServer implements AsyncEndpointServerSpi {
+
+    @Override
+    public void sendMessage(MessageDto message) {
+      final AsyncNodeClient node = getBoundNode(asyncNodeClient, "AsyncNodeClient");
+      final String json = JsonUtil.toJson(message);
+      deliverLater(
+          message.getSessionId(), false, json.length(), () -> node.onMessage(decode(json)));
+    }
+  }
+
+  /** Pending delivery of a message. */
+  private static final class PendingDelivery {
+
+    private final long deliveryTimeNanos;
+    private final Runnable delivery;
+
+    private PendingDelivery(long deliveryTimeNanos, Runnable delivery) {
+      this.deliveryTimeNanos = deliveryTimeNanos;
+      this.delivery = delivery;
+    }
+  }
+
+  /** Ordered lane delivering the messages of a session in one direction, one at a time. */
+  private final class DeliveryLane implements Runnable {
+
+    private final Queue<PendingDelivery> pendingDeliveries =
+        new ConcurrentLinkedQueue<PendingDelivery>();
+    private final AtomicBoolean isDraining = new AtomicBoolean();
+    private long lastDeliveryTimeNanos = Long.MIN_VALUE;
+
+    /**
+     * Queues a delivery, not before the one of the previous message.
+     *
+     * @param deliveryTimeNanos The expected delivery time as a value of {@link System#nanoTime()}.
+     * @param delivery The delivery task.
+     */
+    private synchronized void submit(long deliveryTimeNanos, Runnable delivery) {
+      if (lastDeliveryTimeNanos != Long.MIN_VALUE
+          && deliveryTimeNanos - lastDeliveryTimeNanos < 0) {
+        deliveryTimeNanos = lastDeliveryTimeNanos;
+      }
+      lastDeliveryTimeNanos = deliveryTimeNanos;
+      pendingDeliveries.add(new PendingDelivery(deliveryTimeNanos, delivery));
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (isDraining.compareAndSet(false, true)) {
+        deliveryExecutor.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      PendingDelivery pendingDelivery;
+      while ((pendingDelivery = pendingDeliveries.poll()) != null) {
+        long delay = pendingDelivery.deliveryTimeNanos - System.nanoTime();
+        try {
+          if (delay > 0) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+          }
+          pendingDelivery.delivery.run();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } catch (RuntimeException e) {
+          logger.error("Loopback network failed to deliver a message", e);
+        }
+      }
+      isDraining.set(false);
+      if (!pendingDeliveries.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+  }
+
+  /** Factory of named daemon threads. */
+  private static final class DaemonThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    private DaemonThreadFactory(String namePrefix) {
+      this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import org.eclipse.keyple.core.util.Assert;
+
+/**
+ * Builder of {@link LoopbackNetwork}.
+ *
+ * <p>By default, the network has no latency, no jitter and an unlimited bandwidth.
+ *
+ * <p><b>The network is a testing tool, not intended for production use.</b>
+ *
+ * @since 2.6.0
+ */
+public final class LoopbackNetworkBuilder {
+
+  /** Constructor */
+  private LoopbackNetworkBuilder() {}
+
+  /**
+   * Gets the first step of the builder to use in order to create a new network instance.
+   *
+   * @return Next configuration step.
+   * @since 2.6.0
+   */
+  public static BuilderStep builder() {
+    return new Builder();
+  }
+
+  /**
+   * Last step : configures the network characteristics and builds a new instance.
+   *
+   * @since 2.6.0
+   */
+  public interface BuilderStep {
+
+    /**
+     * Configures the one-way latency applied to each message.
+     *
+     * @param latencyMillis The latency (in milliseconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is negative.
+     * @since 2.6.0
+     */
+    BuilderStep withLatency(int latencyMillis);
+
+    /**
+     * Configures the maximum random delay added to the latency of each message.
+     *
+     * @param jitterMillis The maximum jitter (in milliseconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is negative.
+     * @since 2.6.0
+     */
+    BuilderStep withJitter(int jitterMillis);
+
+    /**
+     * Configures the bandwidth used to compute the transmission delay of each message according to
+     * the size of its JSON representation.
+     *
+     * @param bytesPerSecond The bandwidth (in bytes per second).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withBandwidth(int bytesPerSecond);
+
+    /**
+     * Creates a new instance of {@link LoopbackNetwork} using the current configuration.
+     *
+     * @return A not null reference.
+     * @since 2.6.0
+     */
+    LoopbackNetwork build();
+  }
+
+  /** The internal step builder. */
+  private static final class Builder implements BuilderStep {
+
+    private int latencyMillis;
+    private int jitterMillis;
+    private int bytesPerSecond;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withLatency(int latencyMillis) {
+      Assert.getInstance().greaterOrEqual(latencyMillis, 0, "latencyMillis");
+      this.latencyMillis = latencyMillis;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withJitter(int jitterMillis) {
+      Assert.getInstance().greaterOrEqual(jitterMillis, 0, "jitterMillis");
+      this.jitterMillis = jitterMillis;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withBandwidth(int bytesPerSecond) {
+      Assert.getInstance().greaterOrEqual(bytesPerSecond, 1, "bytesPerSecond");
+      this.bytesPerSecond = bytesPerSecond;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public LoopbackNetwork build() {
+      return new LoopbackNetworkAdapter(latencyMillis, jitterMillis, bytesPerSecond);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the metrics of a remote plugin into the {@link RemotePluginMetricsSpi} provided by the
+ * application, if any.
+ *
+ * <p>When no recorder is provided, all methods return immediately without reading the clock.
+ *
+ * @since 2.6.0
+ */
+final class MetricsRecorder {
+
+  private static final Logger logger = LoggerFactory.getLogger(MetricsRecorder.class);
+
+  /**
+   * Recorder which records nothing.
+   *
+   * @since 2.6.0
+   */
+  static final MetricsRecorder NO_OP = new MetricsRecorder(null, null);
+
+  private final RemotePluginMetricsSpi metrics;
+  private final String remotePluginName;
+  private final boolean isEnabled;
+
+  /**
+   * Constructor.
+   *
+   * @param metrics The metrics SPI (optional).
+   * @param remotePluginName The name of the remote plugin.
+   * @since 2.6.0
+   */
+  MetricsRecorder(RemotePluginMetricsSpi metrics, String remotePluginName) {
+    this.metrics = metrics;
+    this.remotePluginName = remotePluginName;
+    this.isEnabled = metrics != null;
+  }
+
+  /**
+   * Gets the start time of an exchange.
+   *
+   * @return A value of {@link System#nanoTime()}, or 0 if the metrics are disabled.
+   * @since 2.6.0
+   */
+  long startTime() {
+    return isEnabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Records a message exchange started at the provided time.
+   *
+   * @param action The message action.
+   * @param startTime The value returned by {@link #startTime()}.
+   * @param requestBody The request body (optional).
+   * @param responseBody The response body (optional).
+   * @param isSuccessful False if the exchange has failed.
+   * @since 2.6.0
+   */
+  void recordExchange(
+      MessageDto.Action action,
+      long startTime,
+      String requestBody,
+      String responseBody,
+      boolean isSuccessful) {
+    if (!isEnabled) {
+      return;
+    }
+    try {
+      metrics.recordExchange(
+          remotePluginName,
+          action.name(),
+          System.nanoTime() - startTime,
+          requestBody != null ? requestBody.length() : 0,
+          responseBody != null ? responseBody.length() : 0,
+          isSuccessful);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to record metrics of plugin [{}]", remotePluginName, e);
+    }
+  }
+
+  /**
+   * Records the current number of remote readers.
+   *
+   * @param activeRemoteReadersCount The number of remote readers.
+   * @since 2.6.0
+   */
+  void recordActiveRemoteReaders(int activeRemoteReadersCount) {
+    if (!isEnabled) {
+      return;
+    }
+    try {
+      metrics.recordActiveRemoteReaders(remotePluginName, activeRemoteReadersCount);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to record metrics of plugin [{}]", remotePluginName, e);
+    }
+  }
+
+  /**
+   * Records the usage of the provided executor if it is a {@link ThreadPoolExecutor}.
+   *
+   * @param executorName The name of the executor.
+   * @param executor The executor (optional).
+   * @since 2.6.0
+   */
+  void recordExecutorUsage(String executorName, Executor executor) {
+    if (!isEnabled || !(executor instanceof ThreadPoolExecutor)) {
+      return;
+    }
+    ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+    try {
+      metrics.recordExecutorUsage(
+          remotePluginName,
+          executorName,
+          threadPoolExecutor.getActiveCount(),
+          threadPoolExecutor.getMaximumPoolSize(),
+          threadPoolExecutor.getQueue().size());
+    } catch (RuntimeException e) {
+      logger.warn("Failed to record metrics of plugin [{}]", remotePluginName, e);
+    }
+  }
+}
@@ -32,10 +32,27 @@ final class ObservableRemotePluginClientAdapter extends RemotePluginClientAdapte
    *
    * @param remotePluginName The name of the remote plugin.
    * @param isReaderObservationEnabled Is reader observation enabled ?
+   * @param syncSessionIdPool The pool of session IDs to reuse with a sync node (optional).
+   * @param asyncReaderSessionsCount The number of sessions among which the remote readers are
+   *     distributed with an async node (0 if the readers share the global session).
+   * @param eventDispatchExecutor The executor service to use to deliver the events (optional).
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
-  ObservableRemotePluginClientAdapter(String remotePluginName, boolean isReaderObservationEnabled) {
-    super(remotePluginName, isReaderObservationEnabled);
+  ObservableRemotePluginClientAdapter(
+      String remotePluginName,
+      boolean isReaderObservationEnabled,
+      SessionIdPool syncSessionIdPool,
+      int asyncReaderSessionsCount,
+      ExecutorService eventDispatchExecutor,
+      MetricsRecorder metrics) {
+    super(
+        remotePluginName,
+        isReaderObservationEnabled,
+        syncSessionIdPool,
+        asyncReaderSessionsCount,
+        eventDispatchExecutor,
+        metrics);
   }
 
   /**
@@ -55,7 +72,7 @@ public void connect(ObservableRemotePluginApi observableRemotePluginApi) {
    */
   @Override
   public ExecutorService getExecutorService() {
-    return null; // Not applicable
+    return getEventDispatchExecutor(); // Null if not configured
   }
 
   /**
@@ -86,9 +103,29 @@ public void onStopObservation() {
   @Override
   void onMessage(MessageDto message) {
     if (Action.PLUGIN_EVENT.name().equals(message.getAction())) {
-      observableRemotePluginApi.onPluginEvent(message.getBody());
+      getEventDispatcher().dispatch(message, getMetrics().startTime());
     } else {
       super.onMessage(message);
     }
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  void onEvent(Action action, String body, long startTime) {
+    if (action == Action.PLUGIN_EVENT) {
+      boolean isSuccessful = false;
+      try {
+        observableRemotePluginApi.onPluginEvent(body);
+        isSuccessful = true;
+      } finally {
+        getMetrics().recordExchange(Action.PLUGIN_EVENT, startTime, body, null, isSuccessful);
+      }
+    } else {
+      super.onEvent(action, body, startTime);
+    }
+  }
 }
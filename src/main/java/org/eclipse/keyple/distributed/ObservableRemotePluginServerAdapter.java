@@ -13,18 +13,33 @@
 
 import static org.eclipse.keyple.distributed.MessageDto.*;
 
-import com.google.gson.JsonObject;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.keyple.core.distributed.remote.ObservableRemotePluginApi;
 import org.eclipse.keyple.core.distributed.remote.RemotePluginApi;
 import org.eclipse.keyple.core.distributed.remote.spi.ObservableRemotePluginSpi;
 import org.eclipse.keyple.core.distributed.remote.spi.ObservableRemoteReaderSpi;
 import org.eclipse.keyple.core.distributed.remote.spi.RemoteReaderSpi;
 import org.eclipse.keyple.core.util.Assert;
+import org.eclipse.keyple.core.util.json.BodyError;
 import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keyple.distributed.spi.RemoteReaderNameGeneratorSpi;
+import org.eclipse.keyple.distributed.spi.RemoteServiceHandlerSpi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,10 +54,26 @@ final class ObservableRemotePluginServerAdapter extends AbstractRemotePluginAdap
   private static final Logger logger =
       LoggerFactory.getLogger(ObservableRemotePluginServerAdapter.class);
 
+  private static final long MIN_EVICTION_PERIOD_MILLIS = 1000;
+  private static final long DISPATCHER_KEEP_ALIVE_SECONDS = 60;
+
   private final ExecutorService executorService;
+  private final long maxLifetimeNanos;
+  private final long idleTimeoutNanos;
+  private final boolean isRawJsonReleaseEnabled;
+  private final RemoteReaderNameGeneratorSpi remoteReaderNameGenerator;
+  private final LogRateLimiter creationLogRateLimiter;
+  private final ThreadPoolExecutor remoteServiceDispatcher;
+  private final AdmissionController admissionController;
+  private final ServiceRoutingExecutorService serviceRouter;
+  private final AtomicLong rejectedRemoteServicesCount;
   private final Map<String, RemoteReaderServerAdapter> readers;
+  private final Map<String, RemoteServiceHandlerSpi> remoteServiceHandlers;
+  private final Map<String, Class<?>> initialCardContentClasses;
+  private final AtomicLong evictedRemoteReadersCount;
 
   private ObservableRemotePluginApi observableRemotePluginApi;
+  private ScheduledExecutorService evictionScheduler;
 
   /**
    * Constructor.
@@ -50,12 +81,120 @@ final class ObservableRemotePluginServerAdapter extends AbstractRemotePluginAdap
    * @param remotePluginName The name of the remote plugin.
    * @param executorService The custom service to be used to asynchronously notify remote reader
    *     connection events.
+   * @param maxLifetimeSeconds The maximum lifetime of a remote service (in seconds), or 0 if
+   *     unlimited.
+   * @param idleTimeoutSeconds The maximum idle time of a remote service (in seconds), or 0 if
+   *     unlimited.
+   * @param isRawJsonReleaseEnabled True if the JSON strings of the remote services data must be
+   *     released once deserialized.
+   * @param remoteReaderNameGenerator The generator of the remote reader names.
+   * @param maxCreationLogsPerSecond The maximum number of remote reader creations logged at INFO
+   *     level per second, or 0 if unlimited.
+   * @param dispatcherThreadsCount The number of threads processing the remote service requests,
+   *     or 0 if they are processed by the thread delivering the messages.
+   * @param dispatcherQueueCapacity The maximum number of remote service requests waiting for a
+   *     dispatcher thread.
+   * @param maxRemoteReaders The maximum number of concurrent remote readers, or 0 if unlimited.
+   * @param maxRemoteReadersPerClient The maximum number of concurrent remote readers per client
+   *     node, or 0 if unlimited.
+   * @param serviceBulkheads The configuration of the dedicated executors of the services, by
+   *     service ID.
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
-  ObservableRemotePluginServerAdapter(String remotePluginName, ExecutorService executorService) {
-    super(remotePluginName);
+  ObservableRemotePluginServerAdapter( // NOSONAR
+      String remotePluginName,
+      ExecutorService executorService,
+      int maxLifetimeSeconds,
+      int idleTimeoutSeconds,
+      boolean isRawJsonReleaseEnabled,
+      RemoteReaderNameGeneratorSpi remoteReaderNameGenerator,
+      int maxCreationLogsPerSecond,
+      int dispatcherThreadsCount,
+      int dispatcherQueueCapacity,
+      int maxRemoteReaders,
+      int maxRemoteReadersPerClient,
+      Map<String, ServiceRoutingExecutorService.BulkheadConfig> serviceBulkheads,
+      MetricsRecorder metrics) {
+    super(remotePluginName, metrics);
     this.executorService = executorService;
+    this.maxLifetimeNanos = TimeUnit.SECONDS.toNanos(maxLifetimeSeconds);
+    this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+    this.isRawJsonReleaseEnabled = isRawJsonReleaseEnabled;
+    this.remoteReaderNameGenerator = remoteReaderNameGenerator;
+    this.creationLogRateLimiter =
+        maxCreationLogsPerSecond > 0 ? new LogRateLimiter(maxCreationLogsPerSecond) : null;
+    this.remoteServiceDispatcher =
+        dispatcherThreadsCount > 0
+            ? createBoundedExecutor(
+                "keyple-remote-service-dispatcher-" + getName() + "-",
+                dispatcherThreadsCount,
+                dispatcherQueueCapacity)
+            : null;
+    this.admissionController = new AdmissionController(maxRemoteReaders, maxRemoteReadersPerClient);
+    this.serviceRouter =
+        !serviceBulkheads.isEmpty() ? createServiceRouter(executorService, serviceBulkheads) : null;
     readers = new ConcurrentHashMap<>();
+    remoteServiceHandlers = new ConcurrentHashMap<>();
+    initialCardContentClasses = new ConcurrentHashMap<>();
+    evictedRemoteReadersCount = new AtomicLong();
+    rejectedRemoteServicesCount = new AtomicLong();
+  }
+
+  /**
+   * Creates the executor routing the notifications of the remote readers to the bulkheads of their
+   * services.
+   *
+   * <p>When a bulkhead is saturated despite the check performed before the creation of the remote
+   * reader, the notification is rejected with a {@link RejectedExecutionException}, so that it is
+   * never executed by the thread of the network node.
+   *
+   * @param executorService The executor service to use for the other services (optional).
+   * @param serviceBulkheads The configuration of the bulkheads, by service ID.
+   * @return A not null reference.
+   */
+  private ServiceRoutingExecutorService createServiceRouter(
+      ExecutorService executorService,
+      Map<String, ServiceRoutingExecutorService.BulkheadConfig> serviceBulkheads) {
+    Map<String, ThreadPoolExecutor> bulkheads = new HashMap<>();
+    for (Map.Entry<String, ServiceRoutingExecutorService.BulkheadConfig> entry :
+        serviceBulkheads.entrySet()) {
+      ThreadPoolExecutor bulkhead =
+          createBoundedExecutor(
+              "keyple-remote-service-bulkhead-" + getName() + "-" + entry.getKey() + "-",
+              entry.getValue().getThreadsCount(),
+              entry.getValue().getQueueCapacity());
+      bulkheads.put(entry.getKey(), bulkhead);
+    }
+    return new ServiceRoutingExecutorService(executorService, bulkheads);
+  }
+
+  /**
+   * Creates a bounded executor made of daemon threads.
+   *
+   * @param threadNamePrefix The prefix of the thread names.
+   * @param threadsCount The number of threads.
+   * @param queueCapacity The capacity of the queue.
+   * @return A not null reference.
+   */
+  private static ThreadPoolExecutor createBoundedExecutor(
+      final String threadNamePrefix, int threadsCount, int queueCapacity) {
+    final AtomicInteger threadsCounter = new AtomicInteger();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threadsCount,
+            threadsCount,
+            DISPATCHER_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<Runnable>(queueCapacity),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, threadNamePrefix + threadsCounter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   /**
@@ -97,6 +236,87 @@ public AsyncNodeServer getAsyncNode() {
   @Override
   public void endRemoteService(String remoteReaderName, Object outputData) {
 
+    long startTime = getMetrics().startTime();
+    RemoteReaderServerAdapter reader = unregisterRemoteReader(remoteReaderName);
+
+    // Build the body in a single pass.
+    StringWriter body = new StringWriter();
+    JsonWriter writer = new JsonWriter(body);
+    try {
+      beginEndRemoteServiceBody(reader, writer);
+      if (reader.getClientDistributedApiLevel() != 0) {
+        if (outputData != null) {
+          JsonUtil.getParser().toJson(outputData, outputData.getClass(), writer);
+        } else {
+          writer.nullValue();
+        }
+      } else {
+        writer.value(JsonUtil.toJson(outputData));
+      }
+      writer.endObject();
+      writer.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+
+    sendEndRemoteService(reader, body.toString(), startTime);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void endRemoteServiceWithJsonOutput(String remoteReaderName, String outputDataJson) {
+
+    long startTime = getMetrics().startTime();
+    RemoteReaderServerAdapter reader = unregisterRemoteReader(remoteReaderName);
+
+    String json = outputDataJson != null ? outputDataJson : "null";
+
+    // Build the body in a single pass.
+    StringWriter body = new StringWriter(json.length() + 64);
+    JsonWriter writer = new JsonWriter(body);
+    try {
+      beginEndRemoteServiceBody(reader, writer);
+      if (reader.getClientDistributedApiLevel() != 0) {
+        writer.jsonValue(json);
+      } else {
+        writer.value(json);
+      }
+      writer.endObject();
+      writer.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+
+    sendEndRemoteService(reader, body.toString(), startTime);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void endRemoteServiceWithJsonOutput(String remoteReaderName, byte[] outputDataJsonUtf8) {
+    endRemoteServiceWithJsonOutput(
+        remoteReaderName,
+        outputDataJsonUtf8 != null
+            ? new String(outputDataJsonUtf8, StandardCharsets.UTF_8)
+            : null);
+  }
+
+  /**
+   * Removes the reader from the readers map and unregisters it from the core plugin API.
+   *
+   * @param remoteReaderName The remote reader name.
+   * @return The removed reader.
+   * @throws IllegalArgumentException If the remote reader name is null, empty or unknown.
+   */
+  private RemoteReaderServerAdapter unregisterRemoteReader(String remoteReaderName) {
+
     Assert.getInstance().notEmpty(remoteReaderName, "remoteReaderName");
 
     // Clean the readers map.
@@ -107,31 +327,224 @@ public void endRemoteService(String remoteReaderName, Object outputData) {
           String.format("No reader exists with name [%s]", remoteReaderName));
     }
 
+    admissionController.release(reader.getClientNodeId());
+    getMetrics().recordActiveRemoteReaders(readers.size());
+
     // Unregister the remote reader.
-    observableRemotePluginApi.removeRemoteReader(remoteReaderName);
+    removeRemoteReader(reader);
 
-    // Build the message
-    JsonObject body = new JsonObject();
+    return reader;
+  }
+
+  /**
+   * Writes the beginning of the body of the {@link Action#END_REMOTE_SERVICE} message, up to the
+   * name of the output data property.
+   *
+   * @param reader The remote reader.
+   * @param writer The writer.
+   * @throws IOException If an I/O error occurs.
+   */
+  private static void beginEndRemoteServiceBody(RemoteReaderServerAdapter reader, JsonWriter writer)
+      throws IOException {
+    writer.beginObject();
     if (reader.getClientCoreApiLevel() != 0) {
-      body.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), reader.getClientCoreApiLevel());
+      writer.name(JsonProperty.CORE_API_LEVEL.getKey()).value(reader.getClientCoreApiLevel());
     }
     if (reader.getClientDistributedApiLevel() != 0) {
-      body.add(JsonProperty.OUTPUT_DATA.getKey(), JsonUtil.getParser().toJsonTree(outputData));
+      writer.name(JsonProperty.OUTPUT_DATA.getKey());
     } else {
-      body.addProperty(JsonProperty.OUTPUT_DATA.name(), JsonUtil.toJson(outputData));
+      writer.name(JsonProperty.OUTPUT_DATA.name());
     }
+  }
 
+  /**
+   * Sends the {@link Action#END_REMOTE_SERVICE} message to the client.
+   *
+   * @param reader The remote reader.
+   * @param body The message body.
+   * @param startTime The start time of the operation, for the metrics.
+   */
+  private void sendEndRemoteService(RemoteReaderServerAdapter reader, String body, long startTime) {
     MessageDto message =
         new MessageDto()
             .setApiLevel(reader.getClientDistributedApiLevel())
             .setAction(Action.END_REMOTE_SERVICE.name())
-            .setRemoteReaderName(remoteReaderName)
+            .setRemoteReaderName(reader.getName())
             .setSessionId(reader.getSessionId())
             .setClientNodeId(reader.getClientNodeId())
-            .setBody(body.toString());
+            .setBody(body);
 
     // Send the message
-    getNode().sendMessage(message);
+    RemoteExchangeEvent event = RemoteExchangeEvent.start();
+    boolean isSuccessful = false;
+    try {
+      getNode().sendMessage(message);
+      isSuccessful = true;
+    } finally {
+      RemoteExchangeEvent.record(
+          event,
+          Action.END_REMOTE_SERVICE,
+          reader.getName(),
+          reader.getSessionId(),
+          reader.getServiceId(),
+          body,
+          isSuccessful);
+      getMetrics()
+          .recordExchange(Action.END_REMOTE_SERVICE, startTime, body, null, isSuccessful);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getEvictedRemoteReadersCount() {
+    return evictedRemoteReadersCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getRejectedRemoteServicesCount() {
+    return rejectedRemoteServicesCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void registerRemoteServiceHandler(String serviceId, RemoteServiceHandlerSpi handler) {
+    Assert.getInstance().notEmpty(serviceId, "serviceId").notNull(handler, "handler");
+    if (remoteServiceHandlers.putIfAbsent(serviceId, handler) != null) {
+      throw new IllegalStateException(
+          String.format("A handler is already registered for service [%s]", serviceId));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void unregisterRemoteServiceHandler(String serviceId) {
+    Assert.getInstance().notEmpty(serviceId, "serviceId");
+    remoteServiceHandlers.remove(serviceId);
+  }
+
+  /**
+   * Evicts the remote readers whose remote service has exceeded the maximum lifetime or the idle
+   * timeout.
+   *
+   * <p>The readers exchanging a command with the client are never evicted; they are checked again
+   * at the next call once the command is completed. Each evicted reader is unregistered from the
+   * core plugin API and the client is notified with an {@link Action#ERROR} message.
+   *
+   * @param now The current time as a value of {@link System#nanoTime()}.
+   * @since 2.6.0
+   */
+  void evictExpiredRemoteReaders(long now) {
+    for (RemoteReaderServerAdapter reader : readers.values()) {
+      if (reader.isCommandInProgress()) {
+        continue;
+      }
+      if (maxLifetimeNanos > 0 && now - reader.getCreationTimeNanos() >= maxLifetimeNanos) {
+        evictRemoteReader(reader, "maximum lifetime exceeded");
+      } else if (idleTimeoutNanos > 0
+          && now - reader.getLastActivityTimeNanos() >= idleTimeoutNanos) {
+        evictRemoteReader(reader, "idle timeout exceeded");
+      }
+    }
+  }
+
+  /**
+   * Removes the provided reader from the readers map, unregisters it and notifies the client if it
+   * is still present.
+   *
+   * @param reader The reader to evict.
+   * @param reason The reason of the eviction.
+   */
+  private void evictRemoteReader(RemoteReaderServerAdapter reader, String reason) {
+    if (!readers.remove(reader.getName(), reader)) {
+      return; // Already ended.
+    }
+    admissionController.release(reader.getClientNodeId());
+    evictedRemoteReadersCount.incrementAndGet();
+    getMetrics().recordActiveRemoteReaders(readers.size());
+    logger.warn(
+        "Plugin [{}] evict remote reader (remoteReaderName: {}, serviceId: {}, sessionId: {}, clientNodeId: {}, reason: {})",
+        getName(),
+        reader.getName(),
+        reader.getServiceId(),
+        reader.getSessionId(),
+        reader.getClientNodeId(),
+        reason);
+    try {
+      removeRemoteReader(reader);
+    } catch (RuntimeException e) {
+      logger.error(
+          "Plugin [{}] failed to unregister evicted remote reader [{}]",
+          getName(),
+          reader.getName(),
+          e);
+    }
+    sendError(
+        new MessageDto()
+            .setApiLevel(reader.getClientDistributedApiLevel())
+            .setSessionId(reader.getSessionId())
+            .setClientNodeId(reader.getClientNodeId())
+            .setLocalReaderName(reader.getLocalReaderName()),
+        new IllegalStateException(
+            String.format(
+                "Remote service [%s] of reader [%s] was evicted by the server: %s",
+                reader.getServiceId(), reader.getName(), reason)));
+  }
+
+  /**
+   * Starts the periodic eviction of the expired remote readers if a maximum lifetime or an idle
+   * timeout is configured.
+   */
+  private void startEvictionScheduler() {
+    if (evictionScheduler != null || (maxLifetimeNanos == 0 && idleTimeoutNanos == 0)) {
+      return;
+    }
+    long shortestTimeoutNanos;
+    if (maxLifetimeNanos == 0) {
+      shortestTimeoutNanos = idleTimeoutNanos;
+    } else if (idleTimeoutNanos == 0) {
+      shortestTimeoutNanos = maxLifetimeNanos;
+    } else {
+      shortestTimeoutNanos = Math.min(maxLifetimeNanos, idleTimeoutNanos);
+    }
+    long periodMillis =
+        Math.max(
+            MIN_EVICTION_PERIOD_MILLIS, TimeUnit.NANOSECONDS.toMillis(shortestTimeoutNanos) / 2);
+    final String threadName = "keyple-remote-reader-eviction-" + getName();
+    evictionScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, threadName);
+              thread.setDaemon(true);
+              return thread;
+            });
+    evictionScheduler.scheduleWithFixedDelay(
+        () -> {
+          try {
+            evictExpiredRemoteReaders(System.nanoTime());
+          } catch (RuntimeException e) {
+            logger.error("Plugin [{}] failed to evict expired remote readers", getName(), e);
+          }
+        },
+        periodMillis,
+        periodMillis,
+        TimeUnit.MILLISECONDS);
   }
 
   /**
@@ -152,7 +565,16 @@ public String executeRemotely(String jsonData) {
    */
   @Override
   public void onUnregister() {
-    // NOP
+    if (evictionScheduler != null) {
+      evictionScheduler.shutdownNow();
+      evictionScheduler = null;
+    }
+    if (remoteServiceDispatcher != null) {
+      remoteServiceDispatcher.shutdown();
+    }
+    if (serviceRouter != null) {
+      serviceRouter.shutdown();
+    }
   }
 
   /**
@@ -194,6 +616,7 @@ public ObservableRemoteReaderSpi createObservableRemoteReader(
   @Override
   public void connect(ObservableRemotePluginApi observableRemotePluginApi) {
     this.observableRemotePluginApi = observableRemotePluginApi;
+    startEvictionScheduler();
   }
 
   /**
@@ -203,7 +626,7 @@ public void connect(ObservableRemotePluginApi observableRemotePluginApi) {
    */
   @Override
   public ExecutorService getExecutorService() {
-    return executorService;
+    return serviceRouter != null ? serviceRouter : executorService;
   }
 
   /**
@@ -238,78 +661,431 @@ void onMessage(MessageDto message) {
       throw new IllegalStateException(String.format("Message not supported : %s", message));
     }
 
+    long startTime = getMetrics().startTime();
+    RemoteExchangeEvent event = RemoteExchangeEvent.start();
+    String exceededLimit = admissionController.tryAcquire(message.getClientNodeId());
+    if (exceededLimit != null) {
+      rejectRemoteService(message, startTime, event, exceededLimit);
+    } else if (remoteServiceDispatcher == null) {
+      processRemoteService(message, startTime, event);
+    } else {
+      dispatchRemoteService(message, startTime, event);
+    }
+  }
+
+  /**
+   * Processes the provided {@link Action#EXECUTE_REMOTE_SERVICE} message on a thread of the
+   * remote service dispatcher, or rejects it if the dispatcher is saturated.
+   *
+   * <p>In both cases, any failure is reported to the client with an {@link Action#ERROR} message.
+   *
+   * @param message The message.
+   * @param startTime The reception time of the message, for the metrics.
+   * @param event The flight recorder event (optional).
+   */
+  private void dispatchRemoteService(
+      final MessageDto message, final long startTime, final RemoteExchangeEvent event) {
+    try {
+      remoteServiceDispatcher.execute(
+          () -> {
+            try {
+              processRemoteService(message, startTime, event);
+            } catch (RuntimeException e) {
+              logger.error(
+                  "Plugin [{}] failed to start remote service (sessionId: {}, clientNodeId: {})",
+                  getName(),
+                  message.getSessionId(),
+                  message.getClientNodeId(),
+                  e);
+              sendError(message, e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      admissionController.release(message.getClientNodeId());
+      rejectRemoteService(message, startTime, event, "remote service dispatcher saturated");
+    }
+    getMetrics().recordExecutorUsage("remoteServiceDispatcher", remoteServiceDispatcher);
+  }
+
+  /**
+   * Rejects the provided {@link Action#EXECUTE_REMOTE_SERVICE} message without processing it,
+   * records its outcome and reports the rejection to the client with an {@link Action#ERROR}
+   * message.
+   *
+   * @param message The message.
+   * @param startTime The reception time of the message, for the metrics.
+   * @param event The flight recorder event (optional).
+   * @param reason The reason of the rejection.
+   */
+  private void rejectRemoteService(
+      MessageDto message, long startTime, RemoteExchangeEvent event, String reason) {
+    rejectedRemoteServicesCount.incrementAndGet();
+    RemoteExchangeEvent.record(
+        event,
+        Action.EXECUTE_REMOTE_SERVICE,
+        null,
+        message.getSessionId(),
+        null,
+        message.getBody(),
+        false);
+    getMetrics()
+        .recordExchange(Action.EXECUTE_REMOTE_SERVICE, startTime, message.getBody(), null, false);
+    logger.warn(
+        "Plugin [{}] reject remote service (sessionId: {}, clientNodeId: {}, reason: {})",
+        getName(),
+        message.getSessionId(),
+        message.getClientNodeId(),
+        reason);
+    sendError(
+        message,
+        new IllegalStateException(
+            String.format(
+                "Remote plugin [%s] is saturated (%s), retry later", getName(), reason)));
+  }
+
+  /**
+   * Processes the provided {@link Action#EXECUTE_REMOTE_SERVICE} message and records its outcome.
+   *
+   * <p>The message is rejected if the bulkhead of its service or the executor of its remote
+   * service handler is saturated.
+   *
+   * @param message The message.
+   * @param startTime The reception time of the message, for the metrics.
+   * @param event The flight recorder event (optional).
+   */
+  private void processRemoteService(
+      MessageDto message, long startTime, RemoteExchangeEvent event) {
+    RemoteReaderServerAdapter remoteReader;
+    try {
+      remoteReader = startRemoteService(message);
+    } catch (RejectedExecutionException e) {
+      rejectRemoteService(message, startTime, event, e.getMessage());
+      return;
+    } catch (RuntimeException e) {
+      recordRemoteServiceOutcome(message, startTime, event, null);
+      throw e;
+    }
+    recordRemoteServiceOutcome(message, startTime, event, remoteReader);
+  }
+
+  /**
+   * Records the outcome of the provided {@link Action#EXECUTE_REMOTE_SERVICE} message.
+   *
+   * @param message The message.
+   * @param startTime The reception time of the message, for the metrics.
+   * @param event The flight recorder event (optional).
+   * @param remoteReader The created remote reader, or null if the remote service failed to start.
+   */
+  private void recordRemoteServiceOutcome(
+      MessageDto message,
+      long startTime,
+      RemoteExchangeEvent event,
+      RemoteReaderServerAdapter remoteReader) {
+    boolean isSuccessful = remoteReader != null;
+    RemoteExchangeEvent.record(
+        event,
+        Action.EXECUTE_REMOTE_SERVICE,
+        isSuccessful ? remoteReader.getName() : null,
+        message.getSessionId(),
+        isSuccessful ? remoteReader.getServiceId() : null,
+        message.getBody(),
+        isSuccessful);
+    getMetrics()
+        .recordExchange(
+            Action.EXECUTE_REMOTE_SERVICE, startTime, message.getBody(), null, isSuccessful);
+  }
+
+  /**
+   * Checks if the provided bulkhead can not accept a new task without waiting.
+   *
+   * @param bulkhead The bulkhead (optional).
+   * @return False if the bulkhead is null.
+   */
+  private static boolean isSaturated(ThreadPoolExecutor bulkhead) {
+    return bulkhead != null && bulkhead.getQueue().remainingCapacity() == 0;
+  }
+
+  /**
+   * Sends an {@link Action#ERROR} message to the client which sent the provided message.
+   *
+   * @param message The message which has failed.
+   * @param exception The error to report.
+   */
+  private void sendError(MessageDto message, RuntimeException exception) {
+    try {
+      getNode()
+          .sendMessage(
+              new MessageDto()
+                  .setApiLevel(message.getApiLevel())
+                  .setAction(Action.ERROR.name())
+                  .setSessionId(message.getSessionId())
+                  .setClientNodeId(message.getClientNodeId())
+                  .setLocalReaderName(message.getLocalReaderName())
+                  .setBody(JsonUtil.toJson(new BodyError(exception))));
+    } catch (RuntimeException e) {
+      logger.error(
+          "Plugin [{}] failed to send error to client (sessionId: {}, clientNodeId: {})",
+          getName(),
+          message.getSessionId(),
+          message.getClientNodeId(),
+          e);
+    }
+  }
+
+  /**
+   * Logs the creation of a remote reader at INFO level, or at DEBUG level if the rate limit of the
+   * creation logs is exceeded.
+   *
+   * @param remoteReaderName The remote reader name.
+   * @param serviceId The service ID.
+   * @param message The {@link Action#EXECUTE_REMOTE_SERVICE} message.
+   */
+  private void logRemoteReaderCreation(
+      String remoteReaderName, String serviceId, MessageDto message) {
+    if (creationLogRateLimiter == null) {
+      logger.info(
+          "Plugin [{}] create new remote reader (remoteReaderName: {}, serviceId: {}, sessionId: {}, clientNodeId: {})",
+          getName(),
+          remoteReaderName,
+          serviceId,
+          message.getSessionId(),
+          message.getClientNodeId());
+      return;
+    }
+    if (!logger.isInfoEnabled()) {
+      return;
+    }
+    long suppressedLogsCount = creationLogRateLimiter.tryAcquire();
+    if (suppressedLogsCount >= 0) {
+      logger.info(
+          "Plugin [{}] create new remote reader (remoteReaderName: {}, serviceId: {}, sessionId: {}, clientNodeId: {}, suppressedCreationLogs: {})",
+          getName(),
+          remoteReaderName,
+          serviceId,
+          message.getSessionId(),
+          message.getClientNodeId(),
+          suppressedLogsCount);
+    } else if (logger.isDebugEnabled()) {
+      logger.debug(
+          "Plugin [{}] create new remote reader (remoteReaderName: {}, serviceId: {}, sessionId: {}, clientNodeId: {})",
+          getName(),
+          remoteReaderName,
+          serviceId,
+          message.getSessionId(),
+          message.getClientNodeId());
+    }
+  }
+
+  /**
+   * Creates and registers a new remote reader based on the provided {@link
+   * Action#EXECUTE_REMOTE_SERVICE} message.
+   *
+   * @param message The message.
+   * @return The created remote reader.
+   */
+  private RemoteReaderServerAdapter startRemoteService(MessageDto message) {
+    RemoteReaderServerAdapter remoteReader;
+    try {
+      remoteReader = createAndAddRemoteReader(message);
+    } catch (RuntimeException e) {
+      admissionController.release(message.getClientNodeId());
+      throw e;
+    }
+    getMetrics().recordActiveRemoteReaders(readers.size());
+    getMetrics().recordExecutorUsage("executorService", executorService);
+
+    // Register the remote reader and notify observers and handler.
+    if (serviceRouter == null) {
+      registerRemoteReader(remoteReader);
+      notifyRemoteServiceHandler(remoteReader);
+    } else {
+      serviceRouter.enter(remoteReader.getServiceId());
+      try {
+        registerRemoteReader(remoteReader);
+        notifyRemoteServiceHandler(remoteReader);
+      } finally {
+        serviceRouter.exit();
+      }
+      getMetrics()
+          .recordExecutorUsage(
+              "serviceBulkhead-" + remoteReader.getServiceId(),
+              serviceRouter.getBulkhead(remoteReader.getServiceId()));
+    }
+
+    return remoteReader;
+  }
+
+  /**
+   * Registers the provided remote reader into the Core API.
+   *
+   * <p>If the registration fails, for example because the bulkhead of its service is saturated,
+   * the remote reader is discarded before the exception is rethrown.
+   *
+   * @param remoteReader The remote reader.
+   */
+  private void registerRemoteReader(RemoteReaderServerAdapter remoteReader) {
+    try {
+      observableRemotePluginApi.addRemoteReader(remoteReader, remoteReader.getClientCoreApiLevel());
+    } catch (RuntimeException e) {
+      discardRemoteReader(remoteReader);
+      throw e;
+    }
+  }
+
+  /**
+   * Discards the provided remote reader whose remote service failed to start: removes it from the
+   * readers map, gives back its admission and unregisters it from the Core API if it was
+   * registered.
+   *
+   * @param remoteReader The remote reader.
+   */
+  private void discardRemoteReader(RemoteReaderServerAdapter remoteReader) {
+    if (readers.remove(remoteReader.getName(), remoteReader)) {
+      admissionController.release(remoteReader.getClientNodeId());
+      getMetrics().recordActiveRemoteReaders(readers.size());
+    }
+    try {
+      observableRemotePluginApi.removeRemoteReader(remoteReader.getName());
+    } catch (RuntimeException e) {
+      logger.debug(
+          "Plugin [{}] remote reader [{}] not unregistered after its start failure: {}",
+          getName(),
+          remoteReader.getName(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Invokes the handler registered for the service of the provided remote reader, if any, using
+   * the notification executor service of the plugin, or the calling thread if there is none.
+   *
+   * <p>If the executor service rejects the invocation, for example because the bulkhead of the
+   * service is saturated, the handler is not invoked and the remote reader is discarded before the
+   * exception is rethrown, so that the remote service is rejected.
+   *
+   * @param remoteReader The remote reader.
+   * @throws RejectedExecutionException If the executor service rejects the invocation.
+   */
+  private void notifyRemoteServiceHandler(final RemoteReaderServerAdapter remoteReader) {
+    final RemoteServiceHandlerSpi handler = remoteServiceHandlers.get(remoteReader.getServiceId());
+    if (handler == null) {
+      return;
+    }
+    Runnable task = () -> invokeRemoteServiceHandler(handler, remoteReader);
+    ExecutorService notificationExecutorService = getExecutorService();
+    if (notificationExecutorService == null) {
+      task.run();
+      return;
+    }
+    try {
+      notificationExecutorService.execute(task);
+    } catch (RejectedExecutionException e) {
+      discardRemoteReader(remoteReader);
+      throw new RejectedExecutionException(
+          String.format(
+              "executor of the remote service handler of service [%s] saturated",
+              remoteReader.getServiceId()),
+          e);
+    }
+  }
+
+  /**
+   * Invokes the provided handler and logs its failure, if any.
+   *
+   * @param handler The handler.
+   * @param remoteReader The remote reader.
+   */
+  private void invokeRemoteServiceHandler(
+      RemoteServiceHandlerSpi handler, RemoteReaderServerAdapter remoteReader) {
+    try {
+      handler.onRemoteService(remoteReader.getName(), remoteReader);
+    } catch (RuntimeException e) {
+      logger.error(
+          "Plugin [{}] remote service handler failed (remoteReaderName: {}, serviceId: {})",
+          getName(),
+          remoteReader.getName(),
+          remoteReader.getServiceId(),
+          e);
+    }
+  }
+
+  /**
+   * Unregisters the provided remote reader from the Core API, routing the notification of its
+   * observers to the bulkhead of its service if any.
+   *
+   * <p>If the bulkhead is saturated, the notification is dropped and logged.
+   *
+   * @param reader The remote reader.
+   */
+  private void removeRemoteReader(RemoteReaderServerAdapter reader) {
+    if (serviceRouter == null) {
+      observableRemotePluginApi.removeRemoteReader(reader.getName());
+      return;
+    }
+    serviceRouter.enter(reader.getServiceId());
+    try {
+      observableRemotePluginApi.removeRemoteReader(reader.getName());
+    } catch (RejectedExecutionException e) {
+      logger.warn(
+          "Plugin [{}] bulkhead of service [{}] saturated, disconnection of remote reader [{}] not notified",
+          getName(),
+          reader.getServiceId(),
+          reader.getName());
+    } finally {
+      serviceRouter.exit();
+    }
+  }
+
+  /**
+   * Creates a new remote reader based on the provided {@link Action#EXECUTE_REMOTE_SERVICE} message
+   * and adds it to the readers map.
+   *
+   * @param message The message.
+   * @return The created remote reader.
+   */
+  private RemoteReaderServerAdapter createAndAddRemoteReader(MessageDto message) {
+
     // Creates a remote reader based on the incoming message.
-    JsonObject body = JsonUtil.getParser().fromJson(message.getBody(), JsonObject.class);
+    ExecuteRemoteServiceBody body = ExecuteRemoteServiceBody.decode(message.getBody());
 
     // The API level is retrieved from the wrapper, as the body content has been created by the
     // Distributed client layer.
     int clientDistributedApiLevel;
     if (message.getApiLevel() != 0) {
       clientDistributedApiLevel = message.getApiLevel();
-    } else if (body.has(JsonProperty.SERVICE_ID.getKey())) {
+    } else if (body.isKeyLayout()) {
       clientDistributedApiLevel = 1;
     } else {
       clientDistributedApiLevel = 0;
     }
 
     // In this particular case, the API level contained in the body does not reflect the version of
-    // the body, but that of the Core client layer.
-    int clientCoreApiLevel;
-    if (body.has(JsonProperty.CORE_API_LEVEL.getKey())) {
-      clientCoreApiLevel = body.get(JsonProperty.CORE_API_LEVEL.getKey()).getAsInt();
-    } else {
-      clientCoreApiLevel = -1; // Unknown at this step
-    }
-
-    String serviceId;
-    Boolean isReaderContactless = null;
-    String initialCardContent = null;
-    String initialCardContentClassName = null;
-    String inputData = null;
+    // the body, but that of the Core client layer (-1 if unknown at this step).
+    int clientCoreApiLevel = body.getCoreApiLevel();
 
-    if (clientDistributedApiLevel != 0) {
-      // Service ID
-      serviceId = body.get(JsonProperty.SERVICE_ID.getKey()).getAsString();
-      // Is local reader contactless?
-      if (clientDistributedApiLevel >= 3) {
-        isReaderContactless = body.get(JsonProperty.IS_READER_CONTACTLESS.getKey()).getAsBoolean();
-      }
-      // Initial card content
-      if (body.has(JsonProperty.INITIAL_CARD_CONTENT.getKey())) {
-        initialCardContent =
-            body.getAsJsonObject(JsonProperty.INITIAL_CARD_CONTENT.getKey()).toString();
-        initialCardContentClassName =
-            body.get(JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey()).getAsString();
-      }
-      // Input data
-      if (body.has(JsonProperty.INPUT_DATA.getKey())) {
-        inputData = body.getAsJsonObject(JsonProperty.INPUT_DATA.getKey()).toString();
-      }
-    } else {
-      // Service ID
-      serviceId = body.get(JsonProperty.SERVICE_ID.name()).getAsString();
-      // Initial card content
-      if (body.has(JsonProperty.INITIAL_CARD_CONTENT.name())) {
-        initialCardContent = body.get(JsonProperty.INITIAL_CARD_CONTENT.name()).getAsString();
-        initialCardContentClassName =
-            body.get(JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.name()).getAsString();
-      }
-      // Input data
-      if (body.has(JsonProperty.INPUT_DATA.name())) {
-        inputData = body.get(JsonProperty.INPUT_DATA.name()).getAsString();
-      }
+    String serviceId = body.getServiceId();
+    if (serviceId == null) {
+      throw new IllegalStateException(
+          String.format("Service ID not found in message: %s", message));
+    }
+    if (serviceRouter != null && isSaturated(serviceRouter.getBulkhead(serviceId))) {
+      throw new RejectedExecutionException(
+          String.format("bulkhead of service [%s] saturated", serviceId));
     }
 
+    // Is local reader contactless?
+    Boolean isReaderContactless =
+        clientDistributedApiLevel >= 3 ? body.isReaderContactless() : null;
+
     // Other fields
-    String remoteReaderName = UUID.randomUUID().toString();
+    String remoteReaderName =
+        remoteReaderNameGenerator.generateRemoteReaderName(serviceId, message.getClientNodeId());
+    if (remoteReaderName == null || remoteReaderName.isEmpty()) {
+      throw new IllegalStateException(
+          String.format("Plugin [%s] generated an empty remote reader name", getName()));
+    }
 
-    logger.info(
-        "Plugin [{}] create new remote reader (remoteReaderName: {}, serviceId: {}, sessionId: {}, clientNodeId: {})",
-        getName(),
-        remoteReaderName,
-        serviceId,
-        message.getSessionId(),
-        message.getClientNodeId());
+    logRemoteReaderCreation(remoteReaderName, serviceId, message);
 
     RemoteReaderServerAdapter remoteReader =
         new RemoteReaderServerAdapter(
@@ -322,14 +1098,20 @@ void onMessage(MessageDto message) {
             message.getClientNodeId(),
             getNode(),
             serviceId,
-            initialCardContent,
-            initialCardContentClassName,
-            inputData);
+            body.getInitialCardContentJson(),
+            body.getInitialCardContentClassName(),
+            body.getInputDataJson(),
+            isRawJsonReleaseEnabled,
+            initialCardContentClasses,
+            getMetrics());
 
     // Add the new remote reader to the readers map.
-    readers.put(remoteReader.getName(), remoteReader);
-
-    // Register the remote reader and notify observers.
-    observableRemotePluginApi.addRemoteReader(remoteReader, clientCoreApiLevel);
+    if (readers.putIfAbsent(remoteReader.getName(), remoteReader) != null) {
+      throw new IllegalStateException(
+          String.format(
+              "Plugin [%s] generated the name of an existing remote reader [%s]",
+              getName(), remoteReaderName));
+    }
+    return remoteReader;
   }
 }
@@ -30,6 +30,7 @@ final class ObservableRemoteReaderClientAdapter extends RemoteReaderClientAdapte
    * @param sessionId The associated session ID.
    * @param clientNodeId The associated client node ID.
    * @param node The associated node.
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
   ObservableRemoteReaderClientAdapter(
@@ -38,8 +39,16 @@ final class ObservableRemoteReaderClientAdapter extends RemoteReaderClientAdapte
       String localReaderName,
       String sessionId,
       String clientNodeId,
-      AbstractNodeAdapter node) {
-    super(clientCoreApiLevel, remoteReaderName, localReaderName, sessionId, clientNodeId, node);
+      AbstractNodeAdapter node,
+      MetricsRecorder metrics) {
+    super(
+        clientCoreApiLevel,
+        remoteReaderName,
+        localReaderName,
+        sessionId,
+        clientNodeId,
+        node,
+        metrics);
   }
 
   /**
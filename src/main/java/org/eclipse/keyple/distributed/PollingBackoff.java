@@ -0,0 +1,92 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exponential backoff with jitter of a polling activity.
+ *
+ * <p>The interval between two polls starts at the minimum interval, is doubled (up to the maximum
+ * interval) after each poll which returned nothing, and is reset to the minimum interval as soon
+ * as a poll returns something. The actual delay before the next poll is drawn uniformly between
+ * half and all of the current interval, in order to spread the polls of many clients started at
+ * the same time.
+ *
+ * <p>The instance is intended to be used by a single polling thread at a time.
+ *
+ * @since 2.6.0
+ */
+final class PollingBackoff {
+
+  private final long minIntervalNanos;
+  private final long maxIntervalNanos;
+  private volatile long intervalNanos;
+  private volatile long nextPollTimeNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param minIntervalMillis The minimum interval between two polls (in milliseconds).
+   * @param maxIntervalMillis The maximum interval between two polls (in milliseconds).
+   * @since 2.6.0
+   */
+  PollingBackoff(int minIntervalMillis, int maxIntervalMillis) {
+    this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+    this.maxIntervalNanos = TimeUnit.MILLISECONDS.toNanos(maxIntervalMillis);
+    this.intervalNanos = minIntervalNanos;
+    this.nextPollTimeNanos = System.nanoTime();
+  }
+
+  /**
+   * Indicates if the next poll is due.
+   *
+   * @param nowNanos The current time (in nanoseconds, see {@link System#nanoTime()}).
+   * @return True if the poll must be performed.
+   * @since 2.6.0
+   */
+  boolean isPollDue(long nowNanos) {
+    return nowNanos - nextPollTimeNanos >= 0;
+  }
+
+  /**
+   * Updates the interval according to the result of the poll performed at the provided time, and
+   * schedules the next poll.
+   *
+   * @param nowNanos The time of the poll (in nanoseconds, see {@link System#nanoTime()}).
+   * @param hasResult True if the poll returned something.
+   * @since 2.6.0
+   */
+  void onPolled(long nowNanos, boolean hasResult) {
+    if (hasResult) {
+      intervalNanos = minIntervalNanos;
+      nextPollTimeNanos = nowNanos;
+      return;
+    }
+    long interval = Math.min(intervalNanos * 2, maxIntervalNanos);
+    intervalNanos = interval;
+    long halfInterval = interval / 2;
+    nextPollTimeNanos =
+        nowNanos + halfInterval + ThreadLocalRandom.current().nextLong(interval - halfInterval + 1);
+  }
+
+  /**
+   * Gets the current interval between two polls.
+   *
+   * @return The interval (in nanoseconds).
+   * @since 2.6.0
+   */
+  long getIntervalNanos() {
+    return intervalNanos;
+  }
+}
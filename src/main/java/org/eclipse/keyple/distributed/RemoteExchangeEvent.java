@@ -0,0 +1,73 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Java Flight Recorder event describing the exchange of a message of the distributed protocol.
+ *
+ * <p>This Java 8 version records nothing. On Java 11 or later, it is replaced by the version
+ * located in {@code META-INF/versions/11} of the multi-release JAR, which emits a {@code
+ * org.eclipse.keyple.distributed.RemoteExchange} event carrying the duration, the action, the
+ * remote reader name, the session ID, the service ID, the size of the body encoded in UTF-8 and the
+ * outcome of the exchange.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * RemoteExchangeEvent event = RemoteExchangeEvent.start();
+ * try {
+ *   // exchange
+ * } finally {
+ *   RemoteExchangeEvent.record(event, action, remoteReaderName, sessionId, serviceId, body, ok);
+ * }
+ * }</pre>
+ *
+ * @since 2.6.0
+ */
+final class RemoteExchangeEvent {
+
+  /** Constructor. */
+  private RemoteExchangeEvent() {}
+
+  /**
+   * Starts a new event if the event type is enabled in a running recording.
+   *
+   * @return Always null in this version.
+   * @since 2.6.0
+   */
+  static RemoteExchangeEvent start() {
+    return null;
+  }
+
+  /**
+   * Completes and commits the provided event.
+   *
+   * @param event The event returned by {@link #start()} (optional).
+   * @param action The message action.
+   * @param remoteReaderName The remote reader name (optional).
+   * @param sessionId The session ID (optional).
+   * @param serviceId The service ID (optional).
+   * @param body The request body (optional).
+   * @param isSuccessful False if the exchange has failed.
+   * @since 2.6.0
+   */
+  static void record(
+      RemoteExchangeEvent event,
+      MessageDto.Action action,
+      String remoteReaderName,
+      String sessionId,
+      String serviceId,
+      String body,
+      boolean isSuccessful) {
+    // NOP
+  }
+}
@@ -13,6 +13,7 @@
 
 import static org.eclipse.keyple.distributed.MessageDto.*;
 
+import java.util.concurrent.ExecutorService;
 import org.eclipse.keyple.core.distributed.remote.RemotePluginApi;
 import org.eclipse.keyple.core.distributed.remote.spi.ObservableRemoteReaderSpi;
 import org.eclipse.keyple.core.distributed.remote.spi.RemotePluginSpi;
@@ -27,6 +28,8 @@ class RemotePluginClientAdapter extends AbstractRemotePluginClientAdapter
     implements RemotePluginSpi {
 
   private final boolean isReaderObservationEnabled;
+  private final ExecutorService eventDispatchExecutor;
+  private final EventDispatcher eventDispatcher;
 
   private RemotePluginApi remotePluginApi;
 
@@ -35,11 +38,45 @@ class RemotePluginClientAdapter extends AbstractRemotePluginClientAdapter
    *
    * @param remotePluginName The name of the remote plugin.
    * @param isReaderObservationEnabled Is reader observation enabled ?
+   * @param syncSessionIdPool The pool of session IDs to reuse with a sync node (optional).
+   * @param asyncReaderSessionsCount The number of sessions among which the remote readers are
+   *     distributed with an async node (0 if the readers share the global session).
+   * @param eventDispatchExecutor The executor service to use to deliver the events (optional).
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
-  RemotePluginClientAdapter(String remotePluginName, boolean isReaderObservationEnabled) {
-    super(remotePluginName);
+  RemotePluginClientAdapter(
+      String remotePluginName,
+      boolean isReaderObservationEnabled,
+      SessionIdPool syncSessionIdPool,
+      int asyncReaderSessionsCount,
+      ExecutorService eventDispatchExecutor,
+      MetricsRecorder metrics) {
+    super(remotePluginName, syncSessionIdPool, asyncReaderSessionsCount, metrics);
     this.isReaderObservationEnabled = isReaderObservationEnabled;
+    this.eventDispatchExecutor = eventDispatchExecutor;
+    this.eventDispatcher =
+        new EventDispatcher(remotePluginName, eventDispatchExecutor, this::onEvent);
+  }
+
+  /**
+   * Gets the executor service used to deliver the events.
+   *
+   * @return Null if the events are delivered synchronously.
+   * @since 2.6.0
+   */
+  final ExecutorService getEventDispatchExecutor() {
+    return eventDispatchExecutor;
+  }
+
+  /**
+   * Gets the dispatcher of the events to the Core API.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  final EventDispatcher getEventDispatcher() {
+    return eventDispatcher;
   }
 
   /**
@@ -63,9 +100,10 @@ public final RemoteReaderSpi createRemoteReader(String remoteReaderName, String
         getCoreApiLevel(),
         remoteReaderName,
         localReaderName,
-        getGlobalSessionId(),
+        getReaderSessionId(remoteReaderName),
         getNode().getNodeId(),
-        getNode());
+        getNode(),
+        getMetrics());
   }
 
   /**
@@ -84,9 +122,10 @@ public final ObservableRemoteReaderSpi createObservableRemoteReader(
         getCoreApiLevel(),
         remoteReaderName,
         localReaderName,
-        getGlobalSessionId(),
+        getReaderSessionId(remoteReaderName),
         getNode().getNodeId(),
-        getNode());
+        getNode(),
+        getMetrics());
   }
 
   /**
@@ -97,7 +136,27 @@ public final ObservableRemoteReaderSpi createObservableRemoteReader(
   @Override
   void onMessage(MessageDto message) {
     if (Action.READER_EVENT.name().equals(message.getAction())) {
-      remotePluginApi.onReaderEvent(message.getBody());
+      eventDispatcher.dispatch(message, getMetrics().startTime());
+    }
+  }
+
+  /**
+   * Delivers an event to the Core API.
+   *
+   * @param action The type of event.
+   * @param body The body of the event.
+   * @param startTime The reception time of the event, for the metrics.
+   * @since 2.6.0
+   */
+  void onEvent(Action action, String body, long startTime) {
+    if (action == Action.READER_EVENT) {
+      boolean isSuccessful = false;
+      try {
+        remotePluginApi.onReaderEvent(body);
+        isSuccessful = true;
+      } finally {
+        getMetrics().recordExchange(Action.READER_EVENT, startTime, body, null, isSuccessful);
+      }
     }
   }
 }
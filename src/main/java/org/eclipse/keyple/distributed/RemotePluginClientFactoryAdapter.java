@@ -11,8 +11,10 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.concurrent.ExecutorService;
 import org.eclipse.keyple.core.distributed.remote.spi.AbstractRemotePluginSpi;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
 import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,48 +30,18 @@ final class RemotePluginClientFactoryAdapter extends AbstractRemotePluginFactory
   private static final Logger logger =
       LoggerFactory.getLogger(RemotePluginClientFactoryAdapter.class);
 
-  private final boolean isPoolPlugin;
-  private final boolean isPluginObservationEnabled;
-  private final boolean isReaderObservationEnabled;
-  private final SyncEndpointClientSpi syncEndpointClientSpi;
-  private final ServerPushEventStrategyAdapter syncPluginObservationStrategy;
-  private final ServerPushEventStrategyAdapter syncReaderObservationStrategy;
-  private final AsyncEndpointClientSpi asyncEndpointClientSpi;
-  private final int asyncNodeClientTimeoutSeconds;
+  private final Options options;
 
   /**
    * Constructor.
    *
    * @param remotePluginName The name of the remote plugin to build.
-   * @param isPoolPlugin Is a pool plugin ?
-   * @param isPluginObservationEnabled Is plugin observation enabled ?
-   * @param isReaderObservationEnabled Is reader observation enabled ?
-   * @param syncEndpointClientSpi The sync endpoint client to bind.
-   * @param syncPluginObservationStrategy The plugin observation strategy to use for sync protocol.
-   * @param syncReaderObservationStrategy The reader observation strategy to use for sync protocol.
-   * @param asyncEndpointClientSpi The async endpoint client to bind.
-   * @param asyncNodeClientTimeoutSeconds The client timeout to use for async protocol (in seconds).
+   * @param options The options of the remote plugin.
    * @since 2.0.0
    */
-  RemotePluginClientFactoryAdapter( // NOSONAR
-      String remotePluginName,
-      boolean isPoolPlugin,
-      boolean isPluginObservationEnabled,
-      boolean isReaderObservationEnabled,
-      SyncEndpointClientSpi syncEndpointClientSpi,
-      ServerPushEventStrategyAdapter syncPluginObservationStrategy,
-      ServerPushEventStrategyAdapter syncReaderObservationStrategy,
-      AsyncEndpointClientSpi asyncEndpointClientSpi,
-      int asyncNodeClientTimeoutSeconds) {
+  RemotePluginClientFactoryAdapter(String remotePluginName, Options options) {
     super(remotePluginName);
-    this.isPoolPlugin = isPoolPlugin;
-    this.isPluginObservationEnabled = isPluginObservationEnabled;
-    this.isReaderObservationEnabled = isReaderObservationEnabled;
-    this.syncEndpointClientSpi = syncEndpointClientSpi;
-    this.syncPluginObservationStrategy = syncPluginObservationStrategy;
-    this.syncReaderObservationStrategy = syncReaderObservationStrategy;
-    this.asyncEndpointClientSpi = asyncEndpointClientSpi;
-    this.asyncNodeClientTimeoutSeconds = asyncNodeClientTimeoutSeconds;
+    this.options = options;
   }
 
   /**
@@ -82,56 +54,458 @@ public AbstractRemotePluginSpi getRemotePlugin() {
 
     AbstractRemotePluginClientAdapter remotePlugin;
 
+    // Session reuse is only relevant for sync node.
+    SessionIdPool syncSessionIdPool =
+        options.getSyncEndpointClientSpi() != null && options.getSyncMaxIdleSessions() > 0
+            ? new SessionIdPool(
+                options.getSyncMaxIdleSessions(), options.getSyncSessionIdleTimeoutMillis())
+            : null;
+
+    MetricsRecorder metricsRecorder =
+        options.getMetrics() != null
+            ? new MetricsRecorder(options.getMetrics(), getRemotePluginName())
+            : MetricsRecorder.NO_OP;
+
     // Create the remote plugin.
-    if (isPoolPlugin) {
-      remotePlugin = new RemotePoolPluginClientAdapter(getRemotePluginName());
-    } else if (isPluginObservationEnabled) {
+    if (options.isPoolPlugin()) {
+      remotePlugin =
+          new RemotePoolPluginClientAdapter(
+              getRemotePluginName(),
+              syncSessionIdPool,
+              options.getAsyncReaderSessionsCount(),
+              metricsRecorder);
+    } else if (options.isPluginObservationEnabled()) {
       remotePlugin =
           new ObservableRemotePluginClientAdapter(
-              getRemotePluginName(), isReaderObservationEnabled);
+              getRemotePluginName(),
+              options.isReaderObservationEnabled(),
+              syncSessionIdPool,
+              options.getAsyncReaderSessionsCount(),
+              options.getEventDispatchExecutor(),
+              metricsRecorder);
     } else {
       remotePlugin =
-          new RemotePluginClientAdapter(getRemotePluginName(), isReaderObservationEnabled);
+          new RemotePluginClientAdapter(
+              getRemotePluginName(),
+              options.isReaderObservationEnabled(),
+              syncSessionIdPool,
+              options.getAsyncReaderSessionsCount(),
+              options.getEventDispatchExecutor(),
+              metricsRecorder);
     }
 
     // Bind the node.
-    if (syncEndpointClientSpi != null) {
-      String pluginObservationStrategy =
-          syncPluginObservationStrategy != null
-              ? syncPluginObservationStrategy.getType().name()
-                  + "_"
-                  + syncPluginObservationStrategy.getDurationMillis()
-                  + "_millis"
-              : null;
-      String readerObservationStrategy =
-          syncReaderObservationStrategy != null
-              ? syncReaderObservationStrategy.getType().name()
-                  + "_"
-                  + syncReaderObservationStrategy.getDurationMillis()
-                  + "_millis"
-              : null;
+    if (options.getSyncEndpointClientSpi() != null) {
+      ServerPushEventStrategyAdapter pluginStrategy = options.getSyncPluginObservationStrategy();
+      ServerPushEventStrategyAdapter readerStrategy = options.getSyncReaderObservationStrategy();
+      int pluginMaxPollingIntervalMillis = options.getSyncPluginMaxPollingIntervalMillis();
+      int readerMaxPollingIntervalMillis = options.getSyncReaderMaxPollingIntervalMillis();
       logger.info(
-          "Create new 'RemotePluginClient' (name: {}, nodeType: SyncNodeClient, isPluginObservationEnabled: {}, syncPluginObservationStrategy: {}, isReaderObservationEnabled: {}, syncReaderObservationStrategy: {})",
+          "Create new 'RemotePluginClient' (name: {}, nodeType: SyncNodeClient, isPluginObservationEnabled: {}, syncPluginObservationStrategy: {}, isReaderObservationEnabled: {}, syncReaderObservationStrategy: {}, syncMaxIdleSessions: {})",
           getRemotePluginName(),
-          isPluginObservationEnabled,
-          pluginObservationStrategy,
-          isReaderObservationEnabled,
-          readerObservationStrategy);
+          options.isPluginObservationEnabled(),
+          describeObservationStrategy(pluginStrategy, pluginMaxPollingIntervalMillis),
+          options.isReaderObservationEnabled(),
+          describeObservationStrategy(readerStrategy, readerMaxPollingIntervalMillis),
+          options.getSyncMaxIdleSessions());
 
-      remotePlugin.bindSyncNodeClient(
-          syncEndpointClientSpi, syncPluginObservationStrategy, syncReaderObservationStrategy);
+      // The adaptive polling is applied on top of the fixed polling performed by the node.
+      SyncEndpointClientSpi endpoint = options.getSyncEndpointClientSpi();
+      if (pluginMaxPollingIntervalMillis > 0 || readerMaxPollingIntervalMillis > 0) {
+        endpoint =
+            new AdaptivePollingSyncEndpointClient(
+                endpoint,
+                createPollingBackoff(pluginStrategy, pluginMaxPollingIntervalMillis),
+                createPollingBackoff(readerStrategy, readerMaxPollingIntervalMillis));
+      }
+
+      remotePlugin.bindSyncNodeClient(endpoint, pluginStrategy, readerStrategy);
 
     } else {
       logger.info(
-          "Create new 'RemotePluginClient' (name: {}, nodeType: AsyncNodeClient, timeoutSeconds: {}, isPluginObservationEnabled: {}, isReaderObservationEnabled: {})",
+          "Create new 'RemotePluginClient' (name: {}, nodeType: AsyncNodeClient, timeoutSeconds: {}, isPluginObservationEnabled: {}, isReaderObservationEnabled: {}, asyncReaderSessionsCount: {})",
           getRemotePluginName(),
-          asyncNodeClientTimeoutSeconds,
-          isPluginObservationEnabled,
-          isReaderObservationEnabled);
+          options.getAsyncNodeClientTimeoutSeconds(),
+          options.isPluginObservationEnabled(),
+          options.isReaderObservationEnabled(),
+          options.getAsyncReaderSessionsCount());
 
-      remotePlugin.bindAsyncNodeClient(asyncEndpointClientSpi, asyncNodeClientTimeoutSeconds);
+      remotePlugin.bindAsyncNodeClient(
+          options.getAsyncEndpointClientSpi(), options.getAsyncNodeClientTimeoutSeconds());
     }
 
     return remotePlugin;
   }
+
+  /**
+   * Builds the description of the provided observation strategy, for logging purpose.
+   *
+   * @param strategy The strategy (optional).
+   * @param maxPollingIntervalMillis The maximum interval of the adaptive polling, or 0.
+   * @return Null if the strategy is null.
+   */
+  private static String describeObservationStrategy(
+      ServerPushEventStrategyAdapter strategy, int maxPollingIntervalMillis) {
+    if (strategy == null) {
+      return null;
+    }
+    if (maxPollingIntervalMillis > 0) {
+      return "ADAPTIVE_POLLING_"
+          + strategy.getDurationMillis()
+          + "_"
+          + maxPollingIntervalMillis
+          + "_millis";
+    }
+    return strategy.getType().name() + "_" + strategy.getDurationMillis() + "_millis";
+  }
+
+  /**
+   * Creates the backoff of an adaptive polling, the minimum interval being the frequency of the
+   * provided polling strategy.
+   *
+   * @param strategy The polling strategy (optional).
+   * @param maxPollingIntervalMillis The maximum interval of the adaptive polling, or 0.
+   * @return Null if the polling is not adaptive.
+   */
+  private static PollingBackoff createPollingBackoff(
+      ServerPushEventStrategyAdapter strategy, int maxPollingIntervalMillis) {
+    return strategy != null && maxPollingIntervalMillis > 0
+        ? new PollingBackoff(strategy.getDurationMillis(), maxPollingIntervalMillis)
+        : null;
+  }
+
+  /**
+   * Options of the remote plugins created by the factory.
+   *
+   * <p>The options not set keep their default value: {@code null}, {@code 0} or {@code false}.
+   *
+   * @since 2.6.0
+   */
+  static final class Options {
+    private boolean isPoolPlugin;
+    private boolean isPluginObservationEnabled;
+    private boolean isReaderObservationEnabled;
+    private SyncEndpointClientSpi syncEndpointClientSpi;
+    private ServerPushEventStrategyAdapter syncPluginObservationStrategy;
+    private ServerPushEventStrategyAdapter syncReaderObservationStrategy;
+    private int syncPluginMaxPollingIntervalMillis;
+    private int syncReaderMaxPollingIntervalMillis;
+    private AsyncEndpointClientSpi asyncEndpointClientSpi;
+    private int asyncNodeClientTimeoutSeconds;
+    private int syncMaxIdleSessions;
+    private int syncSessionIdleTimeoutMillis;
+    private int asyncReaderSessionsCount;
+    private ExecutorService eventDispatchExecutor;
+    private RemotePluginMetricsSpi metrics;
+
+    /**
+     * Sets the flag indicating if the plugin is a pool plugin.
+     *
+     * @param isPoolPlugin The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setPoolPlugin(boolean isPoolPlugin) {
+      this.isPoolPlugin = isPoolPlugin;
+      return this;
+    }
+
+    /**
+     * @return The flag indicating if the plugin is a pool plugin.
+     * @since 2.6.0
+     */
+    boolean isPoolPlugin() {
+      return isPoolPlugin;
+    }
+
+    /**
+     * Sets the flag indicating if the plugin observation is enabled.
+     *
+     * @param isPluginObservationEnabled The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setPluginObservationEnabled(boolean isPluginObservationEnabled) {
+      this.isPluginObservationEnabled = isPluginObservationEnabled;
+      return this;
+    }
+
+    /**
+     * @return The flag indicating if the plugin observation is enabled.
+     * @since 2.6.0
+     */
+    boolean isPluginObservationEnabled() {
+      return isPluginObservationEnabled;
+    }
+
+    /**
+     * Sets the flag indicating if the reader observation is enabled.
+     *
+     * @param isReaderObservationEnabled The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setReaderObservationEnabled(boolean isReaderObservationEnabled) {
+      this.isReaderObservationEnabled = isReaderObservationEnabled;
+      return this;
+    }
+
+    /**
+     * @return The flag indicating if the reader observation is enabled.
+     * @since 2.6.0
+     */
+    boolean isReaderObservationEnabled() {
+      return isReaderObservationEnabled;
+    }
+
+    /**
+     * Sets the sync endpoint client to bind, or null for an async node.
+     *
+     * @param syncEndpointClientSpi The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setSyncEndpointClientSpi(SyncEndpointClientSpi syncEndpointClientSpi) {
+      this.syncEndpointClientSpi = syncEndpointClientSpi;
+      return this;
+    }
+
+    /**
+     * @return The sync endpoint client to bind, or null for an async node.
+     * @since 2.6.0
+     */
+    SyncEndpointClientSpi getSyncEndpointClientSpi() {
+      return syncEndpointClientSpi;
+    }
+
+    /**
+     * Sets the plugin observation strategy to use for sync protocol (optional).
+     *
+     * @param syncPluginObservationStrategy The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setSyncPluginObservationStrategy(
+        ServerPushEventStrategyAdapter syncPluginObservationStrategy) {
+      this.syncPluginObservationStrategy = syncPluginObservationStrategy;
+      return this;
+    }
+
+    /**
+     * @return The plugin observation strategy to use for sync protocol (optional).
+     * @since 2.6.0
+     */
+    ServerPushEventStrategyAdapter getSyncPluginObservationStrategy() {
+      return syncPluginObservationStrategy;
+    }
+
+    /**
+     * Sets the reader observation strategy to use for sync protocol (optional).
+     *
+     * @param syncReaderObservationStrategy The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setSyncReaderObservationStrategy(
+        ServerPushEventStrategyAdapter syncReaderObservationStrategy) {
+      this.syncReaderObservationStrategy = syncReaderObservationStrategy;
+      return this;
+    }
+
+    /**
+     * @return The reader observation strategy to use for sync protocol (optional).
+     * @since 2.6.0
+     */
+    ServerPushEventStrategyAdapter getSyncReaderObservationStrategy() {
+      return syncReaderObservationStrategy;
+    }
+
+    /**
+     * Sets the maximum interval of the adaptive polling of the plugin events for sync protocol (in
+     * milliseconds), or 0 if the polling is not adaptive.
+     *
+     * @param syncPluginMaxPollingIntervalMillis The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setSyncPluginMaxPollingIntervalMillis(int syncPluginMaxPollingIntervalMillis) {
+      this.syncPluginMaxPollingIntervalMillis = syncPluginMaxPollingIntervalMillis;
+      return this;
+    }
+
+    /**
+     * @return The maximum interval of the adaptive polling of the plugin events for sync protocol
+     *     (in milliseconds), or 0 if the polling is not adaptive.
+     * @since 2.6.0
+     */
+    int getSyncPluginMaxPollingIntervalMillis() {
+      return syncPluginMaxPollingIntervalMillis;
+    }
+
+    /**
+     * Sets the maximum interval of the adaptive polling of the reader events for sync protocol (in
+     * milliseconds), or 0 if the polling is not adaptive.
+     *
+     * @param syncReaderMaxPollingIntervalMillis The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setSyncReaderMaxPollingIntervalMillis(int syncReaderMaxPollingIntervalMillis) {
+      this.syncReaderMaxPollingIntervalMillis = syncReaderMaxPollingIntervalMillis;
+      return this;
+    }
+
+    /**
+     * @return The maximum interval of the adaptive polling of the reader events for sync protocol
+     *     (in milliseconds), or 0 if the polling is not adaptive.
+     * @since 2.6.0
+     */
+    int getSyncReaderMaxPollingIntervalMillis() {
+      return syncReaderMaxPollingIntervalMillis;
+    }
+
+    /**
+     * Sets the async endpoint client to bind, or null for a sync node.
+     *
+     * @param asyncEndpointClientSpi The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setAsyncEndpointClientSpi(AsyncEndpointClientSpi asyncEndpointClientSpi) {
+      this.asyncEndpointClientSpi = asyncEndpointClientSpi;
+      return this;
+    }
+
+    /**
+     * @return The async endpoint client to bind, or null for a sync node.
+     * @since 2.6.0
+     */
+    AsyncEndpointClientSpi getAsyncEndpointClientSpi() {
+      return asyncEndpointClientSpi;
+    }
+
+    /**
+     * Sets the client timeout to use for async protocol (in seconds).
+     *
+     * @param asyncNodeClientTimeoutSeconds The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setAsyncNodeClientTimeoutSeconds(int asyncNodeClientTimeoutSeconds) {
+      this.asyncNodeClientTimeoutSeconds = asyncNodeClientTimeoutSeconds;
+      return this;
+    }
+
+    /**
+     * @return The client timeout to use for async protocol (in seconds).
+     * @since 2.6.0
+     */
+    int getAsyncNodeClientTimeoutSeconds() {
+      return asyncNodeClientTimeoutSeconds;
+    }
+
+    /**
+     * Sets the maximum number of idle sessions to reuse for sync protocol (0 if session reuse is
+     * disabled).
+     *
+     * @param syncMaxIdleSessions The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setSyncMaxIdleSessions(int syncMaxIdleSessions) {
+      this.syncMaxIdleSessions = syncMaxIdleSessions;
+      return this;
+    }
+
+    /**
+     * @return The maximum number of idle sessions to reuse for sync protocol (0 if session reuse is
+     *     disabled).
+     * @since 2.6.0
+     */
+    int getSyncMaxIdleSessions() {
+      return syncMaxIdleSessions;
+    }
+
+    /**
+     * Sets the idle timeout of the reused sessions for sync protocol (in milliseconds).
+     *
+     * @param syncSessionIdleTimeoutMillis The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setSyncSessionIdleTimeoutMillis(int syncSessionIdleTimeoutMillis) {
+      this.syncSessionIdleTimeoutMillis = syncSessionIdleTimeoutMillis;
+      return this;
+    }
+
+    /**
+     * @return The idle timeout of the reused sessions for sync protocol (in milliseconds).
+     * @since 2.6.0
+     */
+    int getSyncSessionIdleTimeoutMillis() {
+      return syncSessionIdleTimeoutMillis;
+    }
+
+    /**
+     * Sets the number of sessions among which the remote readers are distributed for async protocol
+     * (0 if the readers share the global session).
+     *
+     * @param asyncReaderSessionsCount The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setAsyncReaderSessionsCount(int asyncReaderSessionsCount) {
+      this.asyncReaderSessionsCount = asyncReaderSessionsCount;
+      return this;
+    }
+
+    /**
+     * @return The number of sessions among which the remote readers are distributed for async
+     *     protocol (0 if the readers share the global session).
+     * @since 2.6.0
+     */
+    int getAsyncReaderSessionsCount() {
+      return asyncReaderSessionsCount;
+    }
+
+    /**
+     * Sets the executor service to use to deliver the events (optional).
+     *
+     * @param eventDispatchExecutor The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setEventDispatchExecutor(ExecutorService eventDispatchExecutor) {
+      this.eventDispatchExecutor = eventDispatchExecutor;
+      return this;
+    }
+
+    /**
+     * @return The executor service to use to deliver the events (optional).
+     * @since 2.6.0
+     */
+    ExecutorService getEventDispatchExecutor() {
+      return eventDispatchExecutor;
+    }
+
+    /**
+     * Sets the metrics recorder (optional).
+     *
+     * @param metrics The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setMetrics(RemotePluginMetricsSpi metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
+    /**
+     * @return The metrics recorder (optional).
+     * @since 2.6.0
+     */
+    RemotePluginMetricsSpi getMetrics() {
+      return metrics;
+    }
+  }
 }
@@ -13,8 +13,10 @@
 
 import static org.eclipse.keyple.distributed.ServerPushEventStrategyAdapter.*;
 
+import java.util.concurrent.ExecutorService;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
 import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
 
 /**
@@ -130,6 +132,28 @@ public interface ServerPushPluginEventStrategyStep {
      * @since 2.0.0
      */
     SyncNodeReaderStep withPluginLongPollingStrategy(int requestTimeoutMillis);
+
+    /**
+     * Adaptive polling strategy : The client requests the server to check if there are any events,
+     * with an interval which adapts to the activity.<br>
+     * The interval starts at the minimum value and is doubled (up to the maximum value) after each
+     * request which returned no event, with a random jitter to spread the requests of the clients.
+     * It goes back to the minimum value as soon as an event is received.<br>
+     * This mode greatly reduces the number of requests sent by idle clients to the server, at the
+     * cost of a reactivity which decreases with the idle time.
+     *
+     * <p>The client checks every minimum interval if a request is due, so the actual interval is
+     * a multiple of the minimum interval.
+     *
+     * @param minRequestFrequencyMillis The minimum request frequency duration (in milliseconds).
+     * @param maxRequestFrequencyMillis The maximum request frequency duration (in milliseconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the minimum frequency is {@code <} 1 or if the maximum
+     *     frequency is lower than the minimum frequency.
+     * @since 2.6.0
+     */
+    SyncNodeReaderStep withPluginAdaptivePollingStrategy(
+        int minRequestFrequencyMillis, int maxRequestFrequencyMillis);
   }
 
   /**
@@ -189,6 +213,28 @@ public interface ServerPushReaderEventStrategyStep {
      * @since 2.0.0
      */
     BuilderStep withReaderLongPollingStrategy(int requestTimeoutMillis);
+
+    /**
+     * Adaptive polling strategy : The client requests the server to check if there are any events,
+     * with an interval which adapts to the activity.<br>
+     * The interval starts at the minimum value and is doubled (up to the maximum value) after each
+     * request which returned no event, with a random jitter to spread the requests of the clients.
+     * It goes back to the minimum value as soon as an event is received.<br>
+     * This mode greatly reduces the number of requests sent by idle clients to the server, at the
+     * cost of a reactivity which decreases with the idle time.
+     *
+     * <p>The client checks every minimum interval if a request is due, so the actual interval is
+     * a multiple of the minimum interval.
+     *
+     * @param minRequestFrequencyMillis The minimum request frequency duration (in milliseconds).
+     * @param maxRequestFrequencyMillis The maximum request frequency duration (in milliseconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the minimum frequency is {@code <} 1 or if the maximum
+     *     frequency is lower than the minimum frequency.
+     * @since 2.6.0
+     */
+    BuilderStep withReaderAdaptivePollingStrategy(
+        int minRequestFrequencyMillis, int maxRequestFrequencyMillis);
   }
 
   /**
@@ -198,6 +244,75 @@ public interface ServerPushReaderEventStrategyStep {
    */
   public interface BuilderStep {
 
+    /**
+     * Enables the reuse of the sessions used to execute the plugin commands when the service is
+     * configured with a {@link SyncNodeClient} node.
+     *
+     * <p>By default, a new session is opened and closed for each plugin command. When this option
+     * is enabled, up to the specified number of sessions are kept opened after use and reused by
+     * the next commands. Sessions which have remained idle for longer than the specified timeout
+     * are closed.
+     *
+     * <p>This option has no effect when the service is configured with a {@link AsyncNodeClient}
+     * node, because a single session is already used for the entire lifecycle of the plugin.
+     *
+     * @param maxIdleSessions The maximum number of idle sessions to keep opened.
+     * @param idleTimeoutMillis The maximum time (in milliseconds) a session can remain idle.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If a parameter is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withSessionReuse(int maxIdleSessions, int idleTimeoutMillis);
+
+    /**
+     * Configures the executor service to be used to deliver the plugin and reader events received
+     * from the server to the Core layer.
+     *
+     * <p>By default, the events are delivered synchronously by the thread which received them,
+     * which is often a thread of the network layer. When this option is used, they are delivered
+     * using the provided executor service, one at a time and in their reception order. The
+     * executor service is also used by the Core layer to notify the plugin observers.
+     *
+     * @param executorService The executor service to use.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the executor service is null.
+     * @since 2.6.0
+     */
+    BuilderStep withEventDispatchExecutor(ExecutorService executorService);
+
+    /**
+     * Distributes the remote readers among several sessions when the service is configured with a
+     * {@link AsyncNodeClient} node.
+     *
+     * <p>By default, all the remote readers share the single session of the plugin, so the traffic
+     * of all the readers is correlated on this session. When this option is enabled, each remote
+     * reader is assigned to one of the specified number of sessions according to the hash of its
+     * name, so that the card transactions performed on readers assigned to different sessions
+     * progress independently. The sessions are opened on first use.
+     *
+     * <p>This option has no effect when the service is configured with a {@link SyncNodeClient}
+     * node, because a dedicated session is already used for each command.
+     *
+     * @param sessionsCount The number of sessions among which the remote readers are distributed.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the number of sessions is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withReaderSessions(int sessionsCount);
+
+    /**
+     * Configures the recorder to which the counters and timings of the remote plugin and its remote
+     * readers are reported.
+     *
+     * <p>By default, nothing is measured.
+     *
+     * @param metrics The metrics recorder to use.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the recorder is null.
+     * @since 2.6.0
+     */
+    BuilderStep withMetrics(RemotePluginMetricsSpi metrics);
+
     /**
      * Creates a new instance of {@link RemotePluginClientFactory} using the current configuration.
      *
@@ -222,8 +337,15 @@ public interface BuilderStep {
     private SyncEndpointClientSpi syncEndpoint;
     private ServerPushEventStrategyAdapter syncPluginObservationStrategy;
     private ServerPushEventStrategyAdapter syncReaderObservationStrategy;
+    private int syncPluginMaxPollingIntervalMillis;
+    private int syncReaderMaxPollingIntervalMillis;
     private AsyncEndpointClientSpi asyncEndpoint;
     private int asyncNodeClientTimeoutSeconds;
+    private int syncMaxIdleSessions;
+    private int syncSessionIdleTimeoutMillis;
+    private int asyncReaderSessionsCount;
+    private ExecutorService eventDispatchExecutor;
+    private RemotePluginMetricsSpi metrics;
 
     private Builder(String remotePluginName) {
       Assert.getInstance().notEmpty(remotePluginName, "remotePluginName");
@@ -306,6 +428,24 @@ public SyncNodeReaderStep withPluginLongPollingStrategy(int requestTimeoutMillis
       return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public SyncNodeReaderStep withPluginAdaptivePollingStrategy(
+        int minRequestFrequencyMillis, int maxRequestFrequencyMillis) {
+      Assert.getInstance()
+          .greaterOrEqual(minRequestFrequencyMillis, 1, "minRequestFrequencyMillis")
+          .greaterOrEqual(
+              maxRequestFrequencyMillis, minRequestFrequencyMillis, "maxRequestFrequencyMillis");
+      this.syncPluginObservationStrategy =
+          new ServerPushEventStrategyAdapter(Type.POLLING, minRequestFrequencyMillis);
+      this.syncPluginMaxPollingIntervalMillis = maxRequestFrequencyMillis;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -353,6 +493,75 @@ public BuilderStep withReaderLongPollingStrategy(int requestTimeoutMillis) {
       return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withReaderAdaptivePollingStrategy(
+        int minRequestFrequencyMillis, int maxRequestFrequencyMillis) {
+      Assert.getInstance()
+          .greaterOrEqual(minRequestFrequencyMillis, 1, "minRequestFrequencyMillis")
+          .greaterOrEqual(
+              maxRequestFrequencyMillis, minRequestFrequencyMillis, "maxRequestFrequencyMillis");
+      this.syncReaderObservationStrategy =
+          new ServerPushEventStrategyAdapter(Type.POLLING, minRequestFrequencyMillis);
+      this.syncReaderMaxPollingIntervalMillis = maxRequestFrequencyMillis;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withSessionReuse(int maxIdleSessions, int idleTimeoutMillis) {
+      Assert.getInstance()
+          .greaterOrEqual(maxIdleSessions, 1, "maxIdleSessions")
+          .greaterOrEqual(idleTimeoutMillis, 1, "idleTimeoutMillis");
+      this.syncMaxIdleSessions = maxIdleSessions;
+      this.syncSessionIdleTimeoutMillis = idleTimeoutMillis;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withEventDispatchExecutor(ExecutorService executorService) {
+      Assert.getInstance().notNull(executorService, "executorService");
+      this.eventDispatchExecutor = executorService;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withReaderSessions(int sessionsCount) {
+      Assert.getInstance().greaterOrEqual(sessionsCount, 1, "sessionsCount");
+      this.asyncReaderSessionsCount = sessionsCount;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withMetrics(RemotePluginMetricsSpi metrics) {
+      Assert.getInstance().notNull(metrics, "metrics");
+      this.metrics = metrics;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -362,14 +571,21 @@ public BuilderStep withReaderLongPollingStrategy(int requestTimeoutMillis) {
     public RemotePluginClientFactory build() {
       return new RemotePluginClientFactoryAdapter(
           remotePluginName,
-          false,
-          isPluginObservationEnabled,
-          isReaderObservationEnabled,
-          syncEndpoint,
-          syncPluginObservationStrategy,
-          syncReaderObservationStrategy,
-          asyncEndpoint,
-          asyncNodeClientTimeoutSeconds);
+          new RemotePluginClientFactoryAdapter.Options()
+              .setPluginObservationEnabled(isPluginObservationEnabled)
+              .setReaderObservationEnabled(isReaderObservationEnabled)
+              .setSyncEndpointClientSpi(syncEndpoint)
+              .setSyncPluginObservationStrategy(syncPluginObservationStrategy)
+              .setSyncReaderObservationStrategy(syncReaderObservationStrategy)
+              .setSyncPluginMaxPollingIntervalMillis(syncPluginMaxPollingIntervalMillis)
+              .setSyncReaderMaxPollingIntervalMillis(syncReaderMaxPollingIntervalMillis)
+              .setAsyncEndpointClientSpi(asyncEndpoint)
+              .setAsyncNodeClientTimeoutSeconds(asyncNodeClientTimeoutSeconds)
+              .setSyncMaxIdleSessions(syncMaxIdleSessions)
+              .setSyncSessionIdleTimeoutMillis(syncSessionIdleTimeoutMillis)
+              .setAsyncReaderSessionsCount(asyncReaderSessionsCount)
+              .setEventDispatchExecutor(eventDispatchExecutor)
+              .setMetrics(metrics));
     }
   }
 }
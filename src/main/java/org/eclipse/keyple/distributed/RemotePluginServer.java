@@ -12,6 +12,7 @@
 package org.eclipse.keyple.distributed;
 
 import org.eclipse.keyple.core.common.KeyplePluginExtension;
+import org.eclipse.keyple.distributed.spi.RemoteServiceHandlerSpi;
 
 /**
  * API of the <b>Remote Plugin Server</b> associated to a <b>Local Service Client</b> to be used in
@@ -93,4 +94,87 @@ public interface RemotePluginServer extends KeyplePluginExtension {
    * @since 2.0.0
    */
   void endRemoteService(String remoteReaderName, Object outputData);
+
+  /**
+   * Ends the remote ticketing service associated to the provided remote reader name and returns to
+   * the client the provided optional output data, already serialized in JSON.
+   *
+   * <p>This method avoids the intermediate JSON tree built by {@link #endRemoteService(String,
+   * Object)}: the provided JSON is written as is into the message sent to the client. It is
+   * therefore well suited to services which already hold the output data in JSON format.
+   *
+   * <p>Note that the provided JSON is not validated, it must be a well-formed JSON value compatible
+   * with the output data class expected by the client.
+   *
+   * @param remoteReaderName The remote reader name.
+   * @param outputDataJson The output data as a JSON string (optional).
+   * @throws IllegalArgumentException If the remote reader name is null, empty or unknown.
+   * @since 2.6.0
+   */
+  void endRemoteServiceWithJsonOutput(String remoteReaderName, String outputDataJson);
+
+  /**
+   * Same as {@link #endRemoteServiceWithJsonOutput(String, String)} but with the output data JSON
+   * provided as a UTF-8 encoded byte array.
+   *
+   * @param remoteReaderName The remote reader name.
+   * @param outputDataJsonUtf8 The output data as a UTF-8 encoded JSON (optional).
+   * @throws IllegalArgumentException If the remote reader name is null, empty or unknown.
+   * @since 2.6.0
+   */
+  void endRemoteServiceWithJsonOutput(String remoteReaderName, byte[] outputDataJsonUtf8);
+
+  /**
+   * Gets the number of remote readers automatically evicted since the plugin creation because
+   * their remote service exceeded the maximum lifetime or idle timeout configured with {@link
+   * RemotePluginServerFactoryBuilder.BuilderStep#withRemoteServiceMaxLifetime(int)} or {@link
+   * RemotePluginServerFactoryBuilder.BuilderStep#withRemoteServiceIdleTimeout(int)}.
+   *
+   * @return A positive value.
+   * @since 2.6.0
+   */
+  long getEvictedRemoteReadersCount();
+
+  /**
+   * Gets the number of remote service requests rejected since the plugin creation because the
+   * plugin was saturated, that is because the queue of the remote service dispatcher configured
+   * with {@link RemotePluginServerFactoryBuilder.BuilderStep#withRemoteServiceDispatcher(int, int)}
+   * was full, or because a limit configured with {@link
+   * RemotePluginServerFactoryBuilder.BuilderStep#withMaxRemoteReaders(int)} or {@link
+   * RemotePluginServerFactoryBuilder.BuilderStep#withMaxRemoteReadersPerClient(int)} was reached.
+   *
+   * <p>A rejected request is reported to the client with an error.
+   *
+   * @return A positive value.
+   * @since 2.6.0
+   */
+  long getRejectedRemoteServicesCount();
+
+  /**
+   * Registers a handler to be directly invoked with each remote reader created for the provided
+   * service ID.
+   *
+   * <p>The remote readers are still registered in the plugin and notified to its observers, if
+   * any. An application handling all its services using handlers therefore does not need to
+   * observe the plugin, which avoids the delivery of each event to all the observers.
+   *
+   * @param serviceId The service ID.
+   * @param handler The handler.
+   * @throws IllegalArgumentException If the service ID is null or empty, or if the handler is
+   *     null.
+   * @throws IllegalStateException If a handler is already registered for the service ID.
+   * @since 2.6.0
+   */
+  void registerRemoteServiceHandler(String serviceId, RemoteServiceHandlerSpi handler);
+
+  /**
+   * Unregisters the handler of the provided service ID, if any.
+   *
+   * <p>The remote services which are already started are not affected.
+   *
+   * @param serviceId The service ID.
+   * @throws IllegalArgumentException If the service ID is null or empty.
+   * @since 2.6.0
+   */
+  void unregisterRemoteServiceHandler(String serviceId);
 }
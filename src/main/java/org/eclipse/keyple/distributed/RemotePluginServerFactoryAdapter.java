@@ -11,9 +11,13 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import org.eclipse.keyple.core.distributed.remote.spi.AbstractRemotePluginSpi;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
+import org.eclipse.keyple.distributed.spi.RemoteReaderNameGeneratorSpi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,28 +32,18 @@ final class RemotePluginServerFactoryAdapter extends AbstractRemotePluginFactory
   private static final Logger logger =
       LoggerFactory.getLogger(RemotePluginServerFactoryAdapter.class);
 
-  private final ExecutorService executorService;
-  private final AsyncEndpointServerSpi asyncEndpointServerSpi;
-  private final int timeoutSeconds;
+  private final Options options;
 
   /**
    * Constructor.
    *
    * @param remotePluginName The name of the remote plugin to build.
-   * @param executorService The executor service to be used (optional).
-   * @param asyncEndpointServerSpi The async endpoint server to bind.
-   * @param timeoutSeconds The timeout in seconds (optional).
+   * @param options The options of the remote plugin.
    * @since 2.0.0
    */
-  RemotePluginServerFactoryAdapter(
-      String remotePluginName,
-      ExecutorService executorService,
-      AsyncEndpointServerSpi asyncEndpointServerSpi,
-      int timeoutSeconds) {
+  RemotePluginServerFactoryAdapter(String remotePluginName, Options options) {
     super(remotePluginName);
-    this.executorService = executorService;
-    this.asyncEndpointServerSpi = asyncEndpointServerSpi;
-    this.timeoutSeconds = timeoutSeconds;
+    this.options = options;
   }
 
   /**
@@ -62,22 +56,362 @@ public AbstractRemotePluginSpi getRemotePlugin() {
 
     // Create the remote plugin.
     ObservableRemotePluginServerAdapter remotePlugin =
-        new ObservableRemotePluginServerAdapter(getRemotePluginName(), executorService);
+        new ObservableRemotePluginServerAdapter(
+            getRemotePluginName(),
+            options.getExecutorService(),
+            options.getRemoteServiceMaxLifetimeSeconds(),
+            options.getRemoteServiceIdleTimeoutSeconds(),
+            options.isRawJsonReleaseEnabled(),
+            options.getRemoteReaderNameGenerator() != null
+                ? options.getRemoteReaderNameGenerator()
+                : new CounterRemoteReaderNameGenerator(),
+            options.getMaxCreationLogsPerSecond(),
+            options.getDispatcherThreadsCount(),
+            options.getDispatcherQueueCapacity(),
+            options.getMaxRemoteReaders(),
+            options.getMaxRemoteReadersPerClient(),
+            options.getServiceBulkheads(),
+            options.getMetrics() != null
+                ? new MetricsRecorder(options.getMetrics(), getRemotePluginName())
+                : MetricsRecorder.NO_OP);
 
     // Bind the node.
-    String nodeType = asyncEndpointServerSpi != null ? "AsyncNodeServer" : "SyncNodeServer";
+    String nodeType =
+        options.getAsyncEndpointServerSpi() != null ? "AsyncNodeServer" : "SyncNodeServer";
     logger.info(
-        "Create new 'RemotePluginServer' (name: {}, nodeType: {}, timeoutSeconds: {})",
+        "Create new 'RemotePluginServer' (name: {}, nodeType: {}, timeoutSeconds: {}, remoteServiceMaxLifetimeSeconds: {}, remoteServiceIdleTimeoutSeconds: {}, maxCreationLogsPerSecond: {}, dispatcherThreadsCount: {}, dispatcherQueueCapacity: {}, maxRemoteReaders: {}, maxRemoteReadersPerClient: {}, serviceBulkheads: {})",
         getRemotePluginName(),
         nodeType,
-        timeoutSeconds);
+        options.getTimeoutSeconds(),
+        options.getRemoteServiceMaxLifetimeSeconds(),
+        options.getRemoteServiceIdleTimeoutSeconds(),
+        options.getMaxCreationLogsPerSecond(),
+        options.getDispatcherThreadsCount(),
+        options.getDispatcherQueueCapacity(),
+        options.getMaxRemoteReaders(),
+        options.getMaxRemoteReadersPerClient(),
+        options.getServiceBulkheads().keySet());
 
-    if (asyncEndpointServerSpi == null) {
-      remotePlugin.bindSyncNodeServer(timeoutSeconds);
+    if (options.getAsyncEndpointServerSpi() == null) {
+      remotePlugin.bindSyncNodeServer(options.getTimeoutSeconds());
     } else {
-      remotePlugin.bindAsyncNodeServer(asyncEndpointServerSpi, timeoutSeconds);
+      remotePlugin.bindAsyncNodeServer(
+          options.getAsyncEndpointServerSpi(), options.getTimeoutSeconds());
     }
 
     return remotePlugin;
   }
+
+  /**
+   * Options of the remote plugins created by the factory.
+   *
+   * <p>The options not set keep their default value: {@code null}, {@code 0}, {@code false} or an
+   * empty map.
+   *
+   * @since 2.6.0
+   */
+  static final class Options {
+    private ExecutorService executorService;
+    private AsyncEndpointServerSpi asyncEndpointServerSpi;
+    private int timeoutSeconds;
+    private int remoteServiceMaxLifetimeSeconds;
+    private int remoteServiceIdleTimeoutSeconds;
+    private boolean isRawJsonReleaseEnabled;
+    private RemoteReaderNameGeneratorSpi remoteReaderNameGenerator;
+    private int maxCreationLogsPerSecond;
+    private int dispatcherThreadsCount;
+    private int dispatcherQueueCapacity;
+    private int maxRemoteReaders;
+    private int maxRemoteReadersPerClient;
+    private Map<String, ServiceRoutingExecutorService.BulkheadConfig> serviceBulkheads =
+        Collections.emptyMap();
+    private RemotePluginMetricsSpi metrics;
+
+    /**
+     * Sets the executor service to be used (optional).
+     *
+     * @param executorService The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setExecutorService(ExecutorService executorService) {
+      this.executorService = executorService;
+      return this;
+    }
+
+    /**
+     * @return The executor service to be used (optional).
+     * @since 2.6.0
+     */
+    ExecutorService getExecutorService() {
+      return executorService;
+    }
+
+    /**
+     * Sets the async endpoint server to bind, or null for a sync node.
+     *
+     * @param asyncEndpointServerSpi The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setAsyncEndpointServerSpi(AsyncEndpointServerSpi asyncEndpointServerSpi) {
+      this.asyncEndpointServerSpi = asyncEndpointServerSpi;
+      return this;
+    }
+
+    /**
+     * @return The async endpoint server to bind, or null for a sync node.
+     * @since 2.6.0
+     */
+    AsyncEndpointServerSpi getAsyncEndpointServerSpi() {
+      return asyncEndpointServerSpi;
+    }
+
+    /**
+     * Sets the timeout in seconds (optional).
+     *
+     * @param timeoutSeconds The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setTimeoutSeconds(int timeoutSeconds) {
+      this.timeoutSeconds = timeoutSeconds;
+      return this;
+    }
+
+    /**
+     * @return The timeout in seconds (optional).
+     * @since 2.6.0
+     */
+    int getTimeoutSeconds() {
+      return timeoutSeconds;
+    }
+
+    /**
+     * Sets the maximum lifetime of a remote service in seconds, or 0 if unlimited.
+     *
+     * @param remoteServiceMaxLifetimeSeconds The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setRemoteServiceMaxLifetimeSeconds(int remoteServiceMaxLifetimeSeconds) {
+      this.remoteServiceMaxLifetimeSeconds = remoteServiceMaxLifetimeSeconds;
+      return this;
+    }
+
+    /**
+     * @return The maximum lifetime of a remote service in seconds, or 0 if unlimited.
+     * @since 2.6.0
+     */
+    int getRemoteServiceMaxLifetimeSeconds() {
+      return remoteServiceMaxLifetimeSeconds;
+    }
+
+    /**
+     * Sets the maximum idle time of a remote service in seconds, or 0 if unlimited.
+     *
+     * @param remoteServiceIdleTimeoutSeconds The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setRemoteServiceIdleTimeoutSeconds(int remoteServiceIdleTimeoutSeconds) {
+      this.remoteServiceIdleTimeoutSeconds = remoteServiceIdleTimeoutSeconds;
+      return this;
+    }
+
+    /**
+     * @return The maximum idle time of a remote service in seconds, or 0 if unlimited.
+     * @since 2.6.0
+     */
+    int getRemoteServiceIdleTimeoutSeconds() {
+      return remoteServiceIdleTimeoutSeconds;
+    }
+
+    /**
+     * Sets the flag indicating if the JSON strings of the remote services data must be released
+     * once deserialized.
+     *
+     * @param isRawJsonReleaseEnabled The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setRawJsonReleaseEnabled(boolean isRawJsonReleaseEnabled) {
+      this.isRawJsonReleaseEnabled = isRawJsonReleaseEnabled;
+      return this;
+    }
+
+    /**
+     * @return The flag indicating if the JSON strings of the remote services data must be released
+     *     once deserialized.
+     * @since 2.6.0
+     */
+    boolean isRawJsonReleaseEnabled() {
+      return isRawJsonReleaseEnabled;
+    }
+
+    /**
+     * Sets the generator of the remote reader names (optional).
+     *
+     * @param remoteReaderNameGenerator The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setRemoteReaderNameGenerator(RemoteReaderNameGeneratorSpi remoteReaderNameGenerator) {
+      this.remoteReaderNameGenerator = remoteReaderNameGenerator;
+      return this;
+    }
+
+    /**
+     * @return The generator of the remote reader names (optional).
+     * @since 2.6.0
+     */
+    RemoteReaderNameGeneratorSpi getRemoteReaderNameGenerator() {
+      return remoteReaderNameGenerator;
+    }
+
+    /**
+     * Sets the maximum number of remote reader creations logged at INFO level per second, or 0 if
+     * unlimited.
+     *
+     * @param maxCreationLogsPerSecond The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setMaxCreationLogsPerSecond(int maxCreationLogsPerSecond) {
+      this.maxCreationLogsPerSecond = maxCreationLogsPerSecond;
+      return this;
+    }
+
+    /**
+     * @return The maximum number of remote reader creations logged at INFO level per second, or 0
+     *     if unlimited.
+     * @since 2.6.0
+     */
+    int getMaxCreationLogsPerSecond() {
+      return maxCreationLogsPerSecond;
+    }
+
+    /**
+     * Sets the number of threads processing the remote service requests, or 0 if they are processed
+     * by the thread delivering the messages.
+     *
+     * @param dispatcherThreadsCount The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setDispatcherThreadsCount(int dispatcherThreadsCount) {
+      this.dispatcherThreadsCount = dispatcherThreadsCount;
+      return this;
+    }
+
+    /**
+     * @return The number of threads processing the remote service requests, or 0 if they are
+     *     processed by the thread delivering the messages.
+     * @since 2.6.0
+     */
+    int getDispatcherThreadsCount() {
+      return dispatcherThreadsCount;
+    }
+
+    /**
+     * Sets the maximum number of remote service requests waiting for a dispatcher thread.
+     *
+     * @param dispatcherQueueCapacity The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setDispatcherQueueCapacity(int dispatcherQueueCapacity) {
+      this.dispatcherQueueCapacity = dispatcherQueueCapacity;
+      return this;
+    }
+
+    /**
+     * @return The maximum number of remote service requests waiting for a dispatcher thread.
+     * @since 2.6.0
+     */
+    int getDispatcherQueueCapacity() {
+      return dispatcherQueueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of concurrent remote readers, or 0 if unlimited.
+     *
+     * @param maxRemoteReaders The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setMaxRemoteReaders(int maxRemoteReaders) {
+      this.maxRemoteReaders = maxRemoteReaders;
+      return this;
+    }
+
+    /**
+     * @return The maximum number of concurrent remote readers, or 0 if unlimited.
+     * @since 2.6.0
+     */
+    int getMaxRemoteReaders() {
+      return maxRemoteReaders;
+    }
+
+    /**
+     * Sets the maximum number of concurrent remote readers per client node, or 0 if unlimited.
+     *
+     * @param maxRemoteReadersPerClient The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setMaxRemoteReadersPerClient(int maxRemoteReadersPerClient) {
+      this.maxRemoteReadersPerClient = maxRemoteReadersPerClient;
+      return this;
+    }
+
+    /**
+     * @return The maximum number of concurrent remote readers per client node, or 0 if unlimited.
+     * @since 2.6.0
+     */
+    int getMaxRemoteReadersPerClient() {
+      return maxRemoteReadersPerClient;
+    }
+
+    /**
+     * Sets the configuration of the dedicated executors of the services, by service ID.
+     *
+     * @param serviceBulkheads The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setServiceBulkheads(
+        Map<String, ServiceRoutingExecutorService.BulkheadConfig> serviceBulkheads) {
+      this.serviceBulkheads = serviceBulkheads;
+      return this;
+    }
+
+    /**
+     * @return The configuration of the dedicated executors of the services, by service ID.
+     * @since 2.6.0
+     */
+    Map<String, ServiceRoutingExecutorService.BulkheadConfig> getServiceBulkheads() {
+      return serviceBulkheads;
+    }
+
+    /**
+     * Sets the metrics recorder (optional).
+     *
+     * @param metrics The value.
+     * @return This instance.
+     * @since 2.6.0
+     */
+    Options setMetrics(RemotePluginMetricsSpi metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
+    /**
+     * @return The metrics recorder (optional).
+     * @since 2.6.0
+     */
+    RemotePluginMetricsSpi getMetrics() {
+      return metrics;
+    }
+  }
 }
@@ -11,9 +11,13 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
+import org.eclipse.keyple.distributed.spi.RemoteReaderNameGeneratorSpi;
 
 /**
  * Builder of {@link RemotePluginServerFactory} for Keyple <b>ObservablePlugin</b> type.
@@ -125,6 +129,184 @@ public interface NodeStep {
    */
   public interface BuilderStep {
 
+    /**
+     * Limits the lifetime of the remote services.
+     *
+     * <p>By default, a remote reader remains registered as long as its remote service is not ended
+     * by {@link RemotePluginServer#endRemoteService(String, Object)}. When this option is enabled,
+     * a remote reader whose remote service was started for longer than the specified duration is
+     * automatically evicted and unregistered, for example if the client has disappeared or the
+     * ticketing service has never ended the remote service. A command in progress is never
+     * interrupted: the remote reader is evicted once it is completed. The client of an evicted
+     * remote service receives an error.
+     *
+     * @param maxLifetimeSeconds The maximum lifetime (in seconds) of a remote service.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is {@code <} 1.
+     * @see RemotePluginServer#getEvictedRemoteReadersCount()
+     * @since 2.6.0
+     */
+    BuilderStep withRemoteServiceMaxLifetime(int maxLifetimeSeconds);
+
+    /**
+     * Limits the idle time of the remote services.
+     *
+     * <p>When this option is enabled, a remote reader which has not exchanged any command with the
+     * client for longer than the specified duration is automatically evicted and unregistered.
+     *
+     * <p>The idle time starts at the end of the last command, so it includes the processing done
+     * by the ticketing service between two commands: the duration must be longer than the longest
+     * of these processings. A command in progress is never interrupted, and the client of an
+     * evicted remote service receives an error.
+     *
+     * @param idleTimeoutSeconds The maximum idle time (in seconds) of a remote service.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is {@code <} 1.
+     * @see RemotePluginServer#getEvictedRemoteReadersCount()
+     * @since 2.6.0
+     */
+    BuilderStep withRemoteServiceIdleTimeout(int idleTimeoutSeconds);
+
+    /**
+     * Releases the JSON strings of the initial card content and input data transmitted by the
+     * client as soon as they have been deserialized by {@link
+     * RemoteReaderServer#getInitialCardContent()} or {@link
+     * RemoteReaderServer#getInputData(Class)}.
+     *
+     * <p>By default, the JSON strings are kept for the entire lifetime of the remote service. When
+     * this option is enabled, the memory footprint of the long-lived remote services is reduced,
+     * but the input data can only be requested with a single type, {@link
+     * RemoteReaderServer#getInputData(Class)} throwing an {@link IllegalStateException} if it is
+     * later requested with another type.
+     *
+     * @return Next configuration step.
+     * @since 2.6.0
+     */
+    BuilderStep withRawJsonRelease();
+
+    /**
+     * Configures the recorder to which the counters and timings of the remote plugin and its remote
+     * readers are reported.
+     *
+     * <p>By default, nothing is measured.
+     *
+     * @param metrics The metrics recorder to use.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the recorder is null.
+     * @since 2.6.0
+     */
+    BuilderStep withMetrics(RemotePluginMetricsSpi metrics);
+
+    /**
+     * Configures the generator of the names of the remote readers created for each remote service.
+     *
+     * <p>By default, the names are made of a random prefix drawn once per class loader (shared by
+     * all the plugins) followed by the value of a counter.
+     *
+     * @param remoteReaderNameGenerator The generator to use.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the generator is null.
+     * @since 2.6.0
+     */
+    BuilderStep withRemoteReaderNameGenerator(
+        RemoteReaderNameGeneratorSpi remoteReaderNameGenerator);
+
+    /**
+     * Limits the number of remote reader creations logged at INFO level.
+     *
+     * <p>By default, the creation of each remote reader is logged at INFO level. When this option
+     * is enabled, at most the specified number of creations are logged at INFO level per second.
+     * The other ones are logged at DEBUG level, and their number is reported by the next creation
+     * logged at INFO level.
+     *
+     * @param maxLogsPerSecond The maximum number of creations logged at INFO level per second.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withRemoteReaderCreationLogRateLimit(int maxLogsPerSecond);
+
+    /**
+     * Offloads the processing of the remote service requests to a dedicated bounded executor.
+     *
+     * <p>By default, the remote reader associated to a remote service request is created and
+     * registered on the thread delivering the message, which is often an I/O thread of the network
+     * layer. When this option is enabled, this processing is performed by the specified number of
+     * dedicated threads, and up to the specified number of requests can wait for a free thread.
+     * The requests received while the queue is full are rejected with an error sent to the client,
+     * and counted by {@link RemotePluginServer#getRejectedRemoteServicesCount()}.
+     *
+     * <p>The usage of the executor is reported to the metrics recorder configured with {@link
+     * #withMetrics(RemotePluginMetricsSpi)}, if any, under the name {@code
+     * remoteServiceDispatcher}.
+     *
+     * @param threadsCount The number of threads.
+     * @param queueCapacity The maximum number of requests waiting for a thread.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If a value is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withRemoteServiceDispatcher(int threadsCount, int queueCapacity);
+
+    /**
+     * Limits the number of remote readers which can exist concurrently on the server.
+     *
+     * <p>A remote reader is counted from the reception of its remote service request until the end
+     * of its remote service (or its eviction). The requests received while the limit is reached
+     * are immediately rejected with an error sent to the client, and counted by {@link
+     * RemotePluginServer#getRejectedRemoteServicesCount()}.
+     *
+     * @param maxRemoteReaders The maximum number of concurrent remote readers.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withMaxRemoteReaders(int maxRemoteReaders);
+
+    /**
+     * Limits the number of remote readers which can exist concurrently on the server for a same
+     * client node.
+     *
+     * <p>This limit prevents a single client from using all the capacity of the server. It is
+     * applied in the same way as {@link #withMaxRemoteReaders(int)}.
+     *
+     * @param maxRemoteReadersPerClient The maximum number of concurrent remote readers per client
+     *     node.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withMaxRemoteReadersPerClient(int maxRemoteReadersPerClient);
+
+    /**
+     * Dedicates a bounded executor (a "bulkhead") to the notifications of the remote readers of the
+     * provided service, so that a slow service can not delay the other ones.
+     *
+     * <p>By default, the connection and disconnection events of all the remote readers are notified
+     * to the plugin observers using the executor service provided to the builder. When this option
+     * is used for a service, the events of its remote readers are notified by the specified number
+     * of dedicated threads, and up to the specified number of events can wait for a free thread.
+     * The remote service handler registered for the service, if any, is invoked the same way. The
+     * remote service requests received while the queue is full are rejected with an error sent to
+     * the client, and counted by {@link RemotePluginServer#getRejectedRemoteServicesCount()}. An
+     * event is never notified by the thread of the network node: a disconnection event which cannot
+     * be queued is dropped and logged. The other services continue to use the executor service
+     * provided to the builder, or are notified synchronously if none was provided.
+     *
+     * <p>This method can be invoked once per service. The usage of each bulkhead is reported to
+     * the metrics recorder configured with {@link #withMetrics(RemotePluginMetricsSpi)}, if any,
+     * under the name {@code serviceBulkhead-<serviceId>}.
+     *
+     * @param serviceId The service ID, as provided by {@link RemoteReaderServer#getServiceId()}.
+     * @param threadsCount The number of threads.
+     * @param queueCapacity The maximum number of events waiting for a thread.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the service ID is null or empty, if a bulkhead is
+     *     already configured for this service, or if a value is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withServiceBulkhead(String serviceId, int threadsCount, int queueCapacity);
+
     /**
      * Creates a new instance of {@link RemotePluginServerFactory} using the current configuration.
      *
@@ -141,6 +323,18 @@ private static final class Builder implements NodeStep, BuilderStep {
     private final ExecutorService executorService;
     private AsyncEndpointServerSpi asyncEndpoint;
     private int timeoutSeconds = 20;
+    private int remoteServiceMaxLifetimeSeconds;
+    private int remoteServiceIdleTimeoutSeconds;
+    private boolean isRawJsonReleaseEnabled;
+    private RemotePluginMetricsSpi metrics;
+    private RemoteReaderNameGeneratorSpi remoteReaderNameGenerator;
+    private int maxCreationLogsPerSecond;
+    private int dispatcherThreadsCount;
+    private int dispatcherQueueCapacity;
+    private int maxRemoteReaders;
+    private int maxRemoteReadersPerClient;
+    private final Map<String, ServiceRoutingExecutorService.BulkheadConfig> serviceBulkheads =
+        new LinkedHashMap<>();
 
     public Builder(String remotePluginName) {
       Assert.getInstance().notEmpty(remotePluginName, "remotePluginName");
@@ -205,6 +399,135 @@ public BuilderStep withAsyncNode(AsyncEndpointServerSpi endpoint, int timeoutSec
       return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withRemoteServiceMaxLifetime(int maxLifetimeSeconds) {
+      Assert.getInstance().greaterOrEqual(maxLifetimeSeconds, 1, "maxLifetimeSeconds");
+      this.remoteServiceMaxLifetimeSeconds = maxLifetimeSeconds;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withRemoteServiceIdleTimeout(int idleTimeoutSeconds) {
+      Assert.getInstance().greaterOrEqual(idleTimeoutSeconds, 1, "idleTimeoutSeconds");
+      this.remoteServiceIdleTimeoutSeconds = idleTimeoutSeconds;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withRawJsonRelease() {
+      this.isRawJsonReleaseEnabled = true;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withMetrics(RemotePluginMetricsSpi metrics) {
+      Assert.getInstance().notNull(metrics, "metrics");
+      this.metrics = metrics;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withRemoteReaderNameGenerator(
+        RemoteReaderNameGeneratorSpi remoteReaderNameGenerator) {
+      Assert.getInstance().notNull(remoteReaderNameGenerator, "remoteReaderNameGenerator");
+      this.remoteReaderNameGenerator = remoteReaderNameGenerator;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withRemoteReaderCreationLogRateLimit(int maxLogsPerSecond) {
+      Assert.getInstance().greaterOrEqual(maxLogsPerSecond, 1, "maxLogsPerSecond");
+      this.maxCreationLogsPerSecond = maxLogsPerSecond;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withRemoteServiceDispatcher(int threadsCount, int queueCapacity) {
+      Assert.getInstance()
+          .greaterOrEqual(threadsCount, 1, "threadsCount")
+          .greaterOrEqual(queueCapacity, 1, "queueCapacity");
+      this.dispatcherThreadsCount = threadsCount;
+      this.dispatcherQueueCapacity = queueCapacity;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withMaxRemoteReaders(int maxRemoteReaders) {
+      Assert.getInstance().greaterOrEqual(maxRemoteReaders, 1, "maxRemoteReaders");
+      this.maxRemoteReaders = maxRemoteReaders;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withMaxRemoteReadersPerClient(int maxRemoteReadersPerClient) {
+      Assert.getInstance()
+          .greaterOrEqual(maxRemoteReadersPerClient, 1, "maxRemoteReadersPerClient");
+      this.maxRemoteReadersPerClient = maxRemoteReadersPerClient;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withServiceBulkhead(String serviceId, int threadsCount, int queueCapacity) {
+      Assert.getInstance()
+          .notEmpty(serviceId, "serviceId")
+          .isTrue(!serviceBulkheads.containsKey(serviceId), "serviceId is not already configured")
+          .greaterOrEqual(threadsCount, 1, "threadsCount")
+          .greaterOrEqual(queueCapacity, 1, "queueCapacity");
+      serviceBulkheads.put(
+          serviceId, new ServiceRoutingExecutorService.BulkheadConfig(threadsCount, queueCapacity));
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -213,7 +536,22 @@ public BuilderStep withAsyncNode(AsyncEndpointServerSpi endpoint, int timeoutSec
     @Override
     public RemotePluginServerFactory build() {
       return new RemotePluginServerFactoryAdapter(
-          remotePluginName, executorService, asyncEndpoint, timeoutSeconds);
+          remotePluginName,
+          new RemotePluginServerFactoryAdapter.Options()
+              .setExecutorService(executorService)
+              .setAsyncEndpointServerSpi(asyncEndpoint)
+              .setTimeoutSeconds(timeoutSeconds)
+              .setRemoteServiceMaxLifetimeSeconds(remoteServiceMaxLifetimeSeconds)
+              .setRemoteServiceIdleTimeoutSeconds(remoteServiceIdleTimeoutSeconds)
+              .setRawJsonReleaseEnabled(isRawJsonReleaseEnabled)
+              .setRemoteReaderNameGenerator(remoteReaderNameGenerator)
+              .setMaxCreationLogsPerSecond(maxCreationLogsPerSecond)
+              .setDispatcherThreadsCount(dispatcherThreadsCount)
+              .setDispatcherQueueCapacity(dispatcherQueueCapacity)
+              .setMaxRemoteReaders(maxRemoteReaders)
+              .setMaxRemoteReadersPerClient(maxRemoteReadersPerClient)
+              .setServiceBulkheads(new LinkedHashMap<>(serviceBulkheads))
+              .setMetrics(metrics));
     }
   }
 }
@@ -26,10 +26,18 @@ class RemotePoolPluginClientAdapter extends AbstractRemotePluginClientAdapter
    * Constructor.
    *
    * @param remotePluginName The name of the remote plugin.
+   * @param syncSessionIdPool The pool of session IDs to reuse with a sync node (optional).
+   * @param asyncReaderSessionsCount The number of sessions among which the remote readers are
+   *     distributed with an async node (0 if the readers share the global session).
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
-  RemotePoolPluginClientAdapter(String remotePluginName) {
-    super(remotePluginName);
+  RemotePoolPluginClientAdapter(
+      String remotePluginName,
+      SessionIdPool syncSessionIdPool,
+      int asyncReaderSessionsCount,
+      MetricsRecorder metrics) {
+    super(remotePluginName, syncSessionIdPool, asyncReaderSessionsCount, metrics);
   }
 
   /**
@@ -43,9 +51,10 @@ public final RemoteReaderSpi createRemoteReader(String remoteReaderName, String
         getCoreApiLevel(),
         remoteReaderName,
         localReaderName,
-        getGlobalSessionId(),
+        getReaderSessionId(remoteReaderName),
         getNode().getNodeId(),
-        getNode());
+        getNode(),
+        getMetrics());
   }
 
   /**
@@ -13,6 +13,7 @@
 
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
 import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
 
 /**
@@ -77,6 +78,59 @@ public interface NodeStep {
    */
   public interface BuilderStep {
 
+    /**
+     * Enables the reuse of the sessions used to execute the plugin commands when the service is
+     * configured with a {@link SyncNodeClient} node.
+     *
+     * <p>By default, a new session is opened and closed for each plugin command. When this option
+     * is enabled, up to the specified number of sessions are kept opened after use and reused by
+     * the next commands. Sessions which have remained idle for longer than the specified timeout
+     * are closed.
+     *
+     * <p>This option has no effect when the service is configured with a {@link AsyncNodeClient}
+     * node, because a single session is already used for the entire lifecycle of the plugin.
+     *
+     * @param maxIdleSessions The maximum number of idle sessions to keep opened.
+     * @param idleTimeoutMillis The maximum time (in milliseconds) a session can remain idle.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If a parameter is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withSessionReuse(int maxIdleSessions, int idleTimeoutMillis);
+
+    /**
+     * Distributes the remote readers among several sessions when the service is configured with a
+     * {@link AsyncNodeClient} node.
+     *
+     * <p>By default, all the remote readers share the single session of the plugin, so the traffic
+     * of all the readers is correlated on this session. When this option is enabled, each remote
+     * reader is assigned to one of the specified number of sessions according to the hash of its
+     * name, so that the card transactions performed on readers assigned to different sessions
+     * progress independently. The sessions are opened on first use.
+     *
+     * <p>This option has no effect when the service is configured with a {@link SyncNodeClient}
+     * node, because a dedicated session is already used for each command.
+     *
+     * @param sessionsCount The number of sessions among which the remote readers are distributed.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the number of sessions is {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withReaderSessions(int sessionsCount);
+
+    /**
+     * Configures the recorder to which the counters and timings of the remote plugin and its remote
+     * readers are reported.
+     *
+     * <p>By default, nothing is measured.
+     *
+     * @param metrics The metrics recorder to use.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the recorder is null.
+     * @since 2.6.0
+     */
+    BuilderStep withMetrics(RemotePluginMetricsSpi metrics);
+
     /**
      * Creates a new instance of {@link RemotePluginClientFactory} using the current configuration.
      *
@@ -93,6 +147,10 @@ private static final class Builder implements NodeStep, BuilderStep {
     private SyncEndpointClientSpi syncEndpoint;
     private AsyncEndpointClientSpi asyncEndpoint;
     private int asyncNodeClientTimeoutSeconds;
+    private int syncMaxIdleSessions;
+    private int syncSessionIdleTimeoutMillis;
+    private int asyncReaderSessionsCount;
+    private RemotePluginMetricsSpi metrics;
 
     private Builder(String remotePluginName) {
       Assert.getInstance().notEmpty(remotePluginName, "remotePluginName");
@@ -126,6 +184,45 @@ public BuilderStep withAsyncNode(AsyncEndpointClientSpi endpoint, int timeoutSec
       return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withSessionReuse(int maxIdleSessions, int idleTimeoutMillis) {
+      Assert.getInstance()
+          .greaterOrEqual(maxIdleSessions, 1, "maxIdleSessions")
+          .greaterOrEqual(idleTimeoutMillis, 1, "idleTimeoutMillis");
+      this.syncMaxIdleSessions = maxIdleSessions;
+      this.syncSessionIdleTimeoutMillis = idleTimeoutMillis;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withReaderSessions(int sessionsCount) {
+      Assert.getInstance().greaterOrEqual(sessionsCount, 1, "sessionsCount");
+      this.asyncReaderSessionsCount = sessionsCount;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withMetrics(RemotePluginMetricsSpi metrics) {
+      Assert.getInstance().notNull(metrics, "metrics");
+      this.metrics = metrics;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -135,14 +232,15 @@ public BuilderStep withAsyncNode(AsyncEndpointClientSpi endpoint, int timeoutSec
     public RemotePluginClientFactory build() {
       return new RemotePluginClientFactoryAdapter(
           remotePluginName,
-          true,
-          false,
-          false,
-          syncEndpoint,
-          null,
-          null,
-          asyncEndpoint,
-          asyncNodeClientTimeoutSeconds);
+          new RemotePluginClientFactoryAdapter.Options()
+              .setPoolPlugin(true)
+              .setSyncEndpointClientSpi(syncEndpoint)
+              .setAsyncEndpointClientSpi(asyncEndpoint)
+              .setAsyncNodeClientTimeoutSeconds(asyncNodeClientTimeoutSeconds)
+              .setSyncMaxIdleSessions(syncMaxIdleSessions)
+              .setSyncSessionIdleTimeoutMillis(syncSessionIdleTimeoutMillis)
+              .setAsyncReaderSessionsCount(asyncReaderSessionsCount)
+              .setMetrics(metrics));
     }
   }
 }
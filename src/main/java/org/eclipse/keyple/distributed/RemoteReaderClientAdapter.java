@@ -27,6 +27,7 @@ class RemoteReaderClientAdapter extends AbstractRemoteReaderAdapter implements R
    * @param sessionId The associated session ID.
    * @param clientNodeId The associated client node ID.
    * @param node The associated node.
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
   RemoteReaderClientAdapter(
@@ -35,7 +36,8 @@ class RemoteReaderClientAdapter extends AbstractRemoteReaderAdapter implements R
       String localReaderName,
       String sessionId,
       String clientNodeId,
-      AbstractNodeAdapter node) {
+      AbstractNodeAdapter node,
+      MetricsRecorder metrics) {
     super(
         MessageDto.API_LEVEL,
         clientCoreApiLevel,
@@ -44,6 +46,7 @@ class RemoteReaderClientAdapter extends AbstractRemoteReaderAdapter implements R
         null,
         sessionId,
         clientNodeId,
-        node);
+        node,
+        metrics);
   }
 }
@@ -38,6 +38,9 @@ public interface RemoteReaderServer extends KeypleReaderExtension {
    * <p>The returned <b><code>org.calypsonet.terminal.reader.selection.SmartCard</code></b> object
    * can be cast into the expected type.
    *
+   * <p>The content is deserialized on the first call and the same instance is returned by the
+   * subsequent calls, so any modification made to it is visible to the next callers.
+   *
    * @return Null if there is no initial card content.
    * @since 2.0.0
    */
@@ -46,10 +49,17 @@ public interface RemoteReaderServer extends KeypleReaderExtension {
   /**
    * Gets the input data if it is set.
    *
+   * <p>The input data is deserialized on the first call with a given type and the same instance is
+   * returned by the subsequent calls with this type, so any modification made to it is visible to
+   * the next callers.
+   *
    * @param inputDataClass The expected input data type.
    * @param <T> The type of the expected input data.
    * @return Null if there is no input data.
    * @throws IllegalArgumentException If the provided class is null.
+   * @throws IllegalStateException If the raw JSON release is enabled and the input data was
+   *     previously requested with another type.
+   * @see RemotePluginServerFactoryBuilder.BuilderStep#withRawJsonRelease()
    * @since 2.0.0
    */
   <T> T getInputData(Class<T> inputDataClass);
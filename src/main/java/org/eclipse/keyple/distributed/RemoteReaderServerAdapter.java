@@ -11,6 +11,9 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.slf4j.Logger;
@@ -27,9 +30,18 @@ final class RemoteReaderServerAdapter extends AbstractRemoteReaderAdapter
   private static final Logger logger = LoggerFactory.getLogger(RemoteReaderServerAdapter.class);
 
   private final String serviceId;
-  private final String initialCardContentJson;
   private final String initialCardContentClassName;
-  private final String inputDataJson;
+  private final boolean isRawJsonReleaseEnabled;
+  private final Map<String, Class<?>> initialCardContentClasses;
+  private final boolean hasInputData;
+  private final Map<Class<?>, Object> inputDataByType;
+  private volatile String initialCardContentJson;
+  private volatile String inputDataJson;
+  private volatile boolean isInitialCardContentResolved;
+  private volatile Object initialCardContent;
+  private final long creationTimeNanos;
+  private volatile long lastActivityTimeNanos;
+  private final AtomicInteger commandsInProgressCount;
 
   /**
    * Constructor.
@@ -46,6 +58,10 @@ final class RemoteReaderServerAdapter extends AbstractRemoteReaderAdapter
    * @param initialCardContentJson The optional initial card content as a JSON string.
    * @param initialCardContentClassName The class name of the optional initial card content.
    * @param inputDataJson The optional input data as a JSON string.
+   * @param isRawJsonReleaseEnabled True if the JSON strings must be released once deserialized.
+   * @param initialCardContentClasses The cache of the initial card content classes resolved by
+   *     name, shared by the readers of the plugin.
+   * @param metrics The metrics recorder.
    * @since 2.0.0
    */
   RemoteReaderServerAdapter( // NOSONAR
@@ -60,7 +76,10 @@ final class RemoteReaderServerAdapter extends AbstractRemoteReaderAdapter
       String serviceId,
       String initialCardContentJson,
       String initialCardContentClassName,
-      String inputDataJson) {
+      String inputDataJson,
+      boolean isRawJsonReleaseEnabled,
+      Map<String, Class<?>> initialCardContentClasses,
+      MetricsRecorder metrics) {
     super(
         clientDistributedApiLevel,
         clientCoreApiLevel,
@@ -69,11 +88,88 @@ final class RemoteReaderServerAdapter extends AbstractRemoteReaderAdapter
         isContactless,
         sessionId,
         clientNodeId,
-        node);
+        node,
+        metrics);
     this.serviceId = serviceId;
     this.initialCardContentJson = initialCardContentJson;
     this.initialCardContentClassName = initialCardContentClassName;
     this.inputDataJson = inputDataJson;
+    this.isRawJsonReleaseEnabled = isRawJsonReleaseEnabled;
+    this.initialCardContentClasses = initialCardContentClasses;
+    this.hasInputData = inputDataJson != null;
+    this.inputDataByType = new ConcurrentHashMap<Class<?>, Object>(2);
+    this.creationTimeNanos = System.nanoTime();
+    this.lastActivityTimeNanos = creationTimeNanos;
+    this.commandsInProgressCount = new AtomicInteger();
+  }
+
+  /**
+   * Gets the creation time of the reader.
+   *
+   * @return A value of {@link System#nanoTime()}.
+   * @since 2.6.0
+   */
+  long getCreationTimeNanos() {
+    return creationTimeNanos;
+  }
+
+  /**
+   * Gets the start or end time of the last command exchanged with the client, or the creation time
+   * if none.
+   *
+   * @return A value of {@link System#nanoTime()}.
+   * @since 2.6.0
+   */
+  long getLastActivityTimeNanos() {
+    return lastActivityTimeNanos;
+  }
+
+  /**
+   * Indicates if a command is currently exchanged with the client.
+   *
+   * @return True if a command is in progress.
+   * @since 2.6.0
+   */
+  boolean isCommandInProgress() {
+    return commandsInProgressCount.get() > 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Refreshes the last activity time and marks the command as in progress.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  void onCommandStart() {
+    commandsInProgressCount.incrementAndGet();
+    lastActivityTimeNanos = System.nanoTime();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Refreshes the last activity time and marks the command as completed.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  void onCommandEnd() {
+    lastActivityTimeNanos = System.nanoTime();
+    commandsInProgressCount.decrementAndGet();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Returns the service ID.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  String getRemoteServiceId() {
+    return serviceId;
   }
 
   /**
@@ -89,13 +185,41 @@ public String getServiceId() {
   /**
    * {@inheritDoc}
    *
+   * <p>The content is deserialized only once, the same instance is returned by the subsequent
+   * calls.
+   *
    * @since 2.0.0
    */
   @Override
   public Object getInitialCardContent() {
+    if (!isInitialCardContentResolved) {
+      synchronized (this) {
+        if (!isInitialCardContentResolved) {
+          initialCardContent = deserializeInitialCardContent();
+          isInitialCardContentResolved = true;
+          if (isRawJsonReleaseEnabled) {
+            initialCardContentJson = null;
+          }
+        }
+      }
+    }
+    return initialCardContent;
+  }
+
+  /**
+   * Deserializes the initial card content.
+   *
+   * @return Null if there is no initial card content or if its class is not found.
+   */
+  private Object deserializeInitialCardContent() {
     if (initialCardContentJson != null) {
       try {
-        Class<?> classOfInitialCardContent = Class.forName(initialCardContentClassName);
+        Class<?> classOfInitialCardContent =
+            initialCardContentClasses.get(initialCardContentClassName);
+        if (classOfInitialCardContent == null) {
+          classOfInitialCardContent = Class.forName(initialCardContentClassName);
+          initialCardContentClasses.put(initialCardContentClassName, classOfInitialCardContent);
+        }
         return JsonUtil.getParser().fromJson(initialCardContentJson, classOfInitialCardContent);
       } catch (ClassNotFoundException e) {
         logger.error("Class not found: {}", initialCardContentClassName, e);
@@ -107,13 +231,56 @@ public Object getInitialCardContent() {
   /**
    * {@inheritDoc}
    *
+   * <p>The input data is deserialized only once per requested type, the same instance is returned
+   * by the subsequent calls with the same type.
+   *
+   * @throws IllegalStateException If the JSON string has been released and the input data was
+   *     previously deserialized with another type.
    * @since 2.0.0
    */
   @Override
+  @SuppressWarnings("unchecked")
   public <T> T getInputData(Class<T> inputDataClass) {
     Assert.getInstance().notNull(inputDataClass, "inputDataClass");
-    return inputDataJson != null
-        ? JsonUtil.getParser().fromJson(inputDataJson, inputDataClass)
-        : null;
+    if (!hasInputData) {
+      return null;
+    }
+    Object inputData = inputDataByType.get(inputDataClass);
+    if (inputData == null) {
+      synchronized (inputDataByType) {
+        inputData = inputDataByType.get(inputDataClass);
+        if (inputData == null) {
+          inputData = deserializeInputData(inputDataClass);
+          if (inputData == null) {
+            return null;
+          }
+          inputDataByType.put(inputDataClass, inputData);
+          if (isRawJsonReleaseEnabled) {
+            inputDataJson = null;
+          }
+        }
+      }
+    }
+    return (T) inputData;
+  }
+
+  /**
+   * Deserializes the input data to the provided type.
+   *
+   * @param inputDataClass The type of the input data.
+   * @param <T> The type of the input data.
+   * @return Null if the JSON value is null.
+   * @throws IllegalStateException If the JSON string has already been released.
+   */
+  private <T> T deserializeInputData(Class<T> inputDataClass) {
+    String json = inputDataJson;
+    if (json == null) {
+      throw new IllegalStateException(
+          String.format(
+              "The input data of reader [%s] was released after its deserialization to another"
+                  + " type and cannot be deserialized to [%s]",
+              getName(), inputDataClass.getName()));
+    }
+    return JsonUtil.getParser().fromJson(json, inputDataClass);
   }
 }
@@ -0,0 +1,219 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service routing the notifications of the remote readers to a dedicated executor (a
+ * "bulkhead") according to the service ID of the remote reader being notified.
+ *
+ * <p>The service ID is not carried by the notification tasks. It is therefore bound to the calling
+ * thread with {@link #enter(String)} before invoking the Core API, which submits the notification
+ * tasks synchronously, and unbound with {@link #exit()} afterwards. The tasks submitted outside of
+ * such a scope, or for a service without bulkhead, are delegated to the default executor service,
+ * or executed in the calling thread if there is none. A task submitted to a saturated bulkhead is
+ * rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+ *
+ * <p>The lifecycle of the default executor service is managed by the application, so {@link
+ * #shutdown()} and {@link #shutdownNow()} only apply to the bulkheads.
+ *
+ * @since 2.6.0
+ */
+final class ServiceRoutingExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService defaultExecutorService;
+  private final Map<String, ThreadPoolExecutor> bulkheads;
+  private final ThreadLocal<String> currentServiceId;
+
+  /**
+   * Constructor.
+   *
+   * @param defaultExecutorService The executor service to use for the services without bulkhead
+   *     (optional).
+   * @param bulkheads The bulkheads by service ID.
+   * @since 2.6.0
+   */
+  ServiceRoutingExecutorService(
+      ExecutorService defaultExecutorService, Map<String, ThreadPoolExecutor> bulkheads) {
+    this.defaultExecutorService = defaultExecutorService;
+    this.bulkheads = Collections.unmodifiableMap(bulkheads);
+    this.currentServiceId = new ThreadLocal<String>();
+  }
+
+  /**
+   * Gets the bulkhead dedicated to the provided service.
+   *
+   * @param serviceId The service ID.
+   * @return Null if the service has no bulkhead.
+   * @since 2.6.0
+   */
+  ThreadPoolExecutor getBulkhead(String serviceId) {
+    return bulkheads.get(serviceId);
+  }
+
+  /**
+   * Routes the tasks submitted by the current thread to the bulkhead of the provided service, until
+   * {@link #exit()} is invoked.
+   *
+   * @param serviceId The service ID.
+   * @since 2.6.0
+   */
+  void enter(String serviceId) {
+    currentServiceId.set(serviceId);
+  }
+
+  /**
+   * Stops routing the tasks submitted by the current thread.
+   *
+   * @since 2.6.0
+   */
+  void exit() {
+    currentServiceId.remove();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void execute(Runnable command) {
+    String serviceId = currentServiceId.get();
+    ThreadPoolExecutor bulkhead = serviceId != null ? bulkheads.get(serviceId) : null;
+    if (bulkhead != null) {
+      bulkhead.execute(command);
+    } else if (defaultExecutorService != null) {
+      defaultExecutorService.execute(command);
+    } else {
+      command.run();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void shutdown() {
+    for (ThreadPoolExecutor bulkhead : bulkheads.values()) {
+      bulkhead.shutdown();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> tasks = new ArrayList<Runnable>();
+    for (ThreadPoolExecutor bulkhead : bulkheads.values()) {
+      tasks.addAll(bulkhead.shutdownNow());
+    }
+    return tasks;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public boolean isShutdown() {
+    for (ThreadPoolExecutor bulkhead : bulkheads.values()) {
+      if (!bulkhead.isShutdown()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public boolean isTerminated() {
+    for (ThreadPoolExecutor bulkhead : bulkheads.values()) {
+      if (!bulkhead.isTerminated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (ThreadPoolExecutor bulkhead : bulkheads.values()) {
+      if (!bulkhead.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Configuration of a bulkhead.
+   *
+   * @since 2.6.0
+   */
+  static final class BulkheadConfig {
+
+    private final int threadsCount;
+    private final int queueCapacity;
+
+    /**
+     * Constructor.
+     *
+     * @param threadsCount The number of threads.
+     * @param queueCapacity The maximum number of tasks waiting for a thread.
+     * @since 2.6.0
+     */
+    BulkheadConfig(int threadsCount, int queueCapacity) {
+      this.threadsCount = threadsCount;
+      this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * @return The number of threads.
+     * @since 2.6.0
+     */
+    int getThreadsCount() {
+      return threadsCount;
+    }
+
+    /**
+     * @return The maximum number of tasks waiting for a thread.
+     * @since 2.6.0
+     */
+    int getQueueCapacity() {
+      return queueCapacity;
+    }
+  }
+}
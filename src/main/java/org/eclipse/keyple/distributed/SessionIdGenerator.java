@@ -0,0 +1,46 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of the session IDs of the client (temporary sessions correlating a single request
+ * with its response, reused sync sessions and async global session), also used for the default
+ * remote reader names.
+ *
+ * <p>Unlike {@link UUID#randomUUID()}, which draws from {@link java.security.SecureRandom} on each
+ * call, the IDs are made of a random prefix drawn once per class loader, followed by the value of
+ * a monotonic counter. They remain unique across the client instances sharing a server while
+ * costing only an atomic increment and a string concatenation.
+ *
+ * @since 2.6.0
+ */
+final class SessionIdGenerator {
+
+  private static final String PREFIX = UUID.randomUUID().toString() + '-';
+  private static final AtomicLong COUNTER = new AtomicLong();
+
+  /** Constructor. */
+  private SessionIdGenerator() {}
+
+  /**
+   * Generates a new session ID.
+   *
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  static String next() {
+    return PREFIX + Long.toHexString(COUNTER.incrementAndGet());
+  }
+}
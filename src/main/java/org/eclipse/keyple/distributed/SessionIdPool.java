@@ -0,0 +1,147 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of opened session IDs, used to avoid opening and closing a new session for each
+ * plugin command when the plugin is bound to a sync node.
+ *
+ * <p>A session ID is exclusively owned by the caller between {@link #acquire(AbstractNodeAdapter)}
+ * and {@link #release(String, AbstractNodeAdapter)}. The most recently released sessions are
+ * reused first, and the sessions which remained idle longer than the configured timeout are closed
+ * lazily during the next pool access.
+ *
+ * @since 2.6.0
+ */
+final class SessionIdPool {
+
+  private final int maxIdleSessions;
+  private final long idleTimeoutNanos;
+  private final Deque<IdleSession> idleSessions;
+  private final AtomicInteger idleSessionsCount;
+
+  /**
+   * Constructor.
+   *
+   * @param maxIdleSessions The maximum number of idle sessions to keep opened.
+   * @param idleTimeoutMillis The maximum time (in milliseconds) a session can remain idle before
+   *     being closed.
+   * @since 2.6.0
+   */
+  SessionIdPool(int maxIdleSessions, int idleTimeoutMillis) {
+    this.maxIdleSessions = maxIdleSessions;
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+    this.idleSessions = new ConcurrentLinkedDeque<IdleSession>();
+    this.idleSessionsCount = new AtomicInteger();
+  }
+
+  /**
+   * Gets an opened session ID, reusing an idle one if available, or opening a new one on the
+   * provided node otherwise.
+   *
+   * @param node The node to use to open or close the sessions.
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  String acquire(AbstractNodeAdapter node) {
+    long now = System.nanoTime();
+    IdleSession idleSession;
+    while ((idleSession = idleSessions.pollFirst()) != null) {
+      idleSessionsCount.decrementAndGet();
+      if (now - idleSession.releaseTimeNanos < idleTimeoutNanos) {
+        return idleSession.sessionId;
+      }
+      node.closeSessionSilently(idleSession.sessionId);
+    }
+    String sessionId = SessionIdGenerator.next();
+    node.openSession(sessionId);
+    return sessionId;
+  }
+
+  /**
+   * Gives back a session ID previously acquired.
+   *
+   * <p>The session is closed if the pool is full.
+   *
+   * @param sessionId The session ID to release.
+   * @param node The node to use to close the sessions.
+   * @since 2.6.0
+   */
+  void release(String sessionId, AbstractNodeAdapter node) {
+    long now = System.nanoTime();
+    closeExpiredSessions(now, node);
+    if (idleSessionsCount.incrementAndGet() <= maxIdleSessions) {
+      idleSessions.offerFirst(new IdleSession(sessionId, now));
+    } else {
+      idleSessionsCount.decrementAndGet();
+      node.closeSessionSilently(sessionId);
+    }
+  }
+
+  /**
+   * Closes all the idle sessions.
+   *
+   * @param node The node to use to close the sessions.
+   * @since 2.6.0
+   */
+  void clear(AbstractNodeAdapter node) {
+    IdleSession idleSession;
+    while ((idleSession = idleSessions.pollFirst()) != null) {
+      idleSessionsCount.decrementAndGet();
+      node.closeSessionSilently(idleSession.sessionId);
+    }
+  }
+
+  /**
+   * Gets the current number of idle sessions.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getIdleSessionsCount() {
+    return idleSessionsCount.get();
+  }
+
+  /**
+   * Closes the oldest sessions as long as they have expired.
+   *
+   * @param now The current time in nanoseconds.
+   * @param node The node to use to close the sessions.
+   */
+  private void closeExpiredSessions(long now, AbstractNodeAdapter node) {
+    IdleSession oldest;
+    while ((oldest = idleSessions.peekLast()) != null
+        && now - oldest.releaseTimeNanos >= idleTimeoutNanos) {
+      if (idleSessions.removeLastOccurrence(oldest)) {
+        idleSessionsCount.decrementAndGet();
+        node.closeSessionSilently(oldest.sessionId);
+      }
+    }
+  }
+
+  /** An idle session with its release time. */
+  private static final class IdleSession {
+
+    private final String sessionId;
+    private final long releaseTimeNanos;
+
+    private IdleSession(String sessionId, long releaseTimeNanos) {
+      this.sessionId = sessionId;
+      this.releaseTimeNanos = releaseTimeNanos;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed.spi;
+
+/**
+ * Remote plugin metrics recorder, to be implemented by the application in order to collect the
+ * counters and timings of the remote plugins and readers, for example in a monitoring library.
+ *
+ * <p>The recorder is provided using the {@code withMetrics} method of the factory builders. When no
+ * recorder is provided, nothing is measured.
+ *
+ * <p>The methods are invoked synchronously from the threads processing the messages, so their
+ * implementation must be thread-safe, non-blocking and fast. Any exception they throw is ignored.
+ *
+ * @since 2.6.0
+ */
+public interface RemotePluginMetricsSpi {
+
+  /**
+   * Records a message exchange processed by a remote plugin or one of its remote readers.
+   *
+   * <p>The action is the name of the message action: {@code CMD} for a command executed remotely,
+   * {@code EXECUTE_REMOTE_SERVICE} and {@code END_REMOTE_SERVICE} for the start and the end of a
+   * remote service on the server side, {@code PLUGIN_EVENT} and {@code READER_EVENT} for the events
+   * received on the client side.
+   *
+   * @param remotePluginName The name of the remote plugin.
+   * @param action The name of the message action.
+   * @param durationNanos The duration of the exchange (in nanoseconds).
+   * @param requestBodySize The number of characters of the sent or received message body.
+   * @param responseBodySize The number of characters of the response body, or 0 if there is no
+   *     response.
+   * @param isSuccessful False if the exchange has failed.
+   * @since 2.6.0
+   */
+  void recordExchange(
+      String remotePluginName,
+      String action,
+      long durationNanos,
+      int requestBodySize,
+      int responseBodySize,
+      boolean isSuccessful);
+
+  /**
+   * Records the current number of remote readers registered by a server remote plugin.
+   *
+   * @param remotePluginName The name of the remote plugin.
+   * @param activeRemoteReadersCount The number of remote readers.
+   * @since 2.6.0
+   */
+  void recordActiveRemoteReaders(String remotePluginName, int activeRemoteReadersCount);
+
+  /**
+   * Records the usage of an executor service used by a remote plugin, when a task is submitted to
+   * it.
+   *
+   * <p>Only the executor services based on {@link java.util.concurrent.ThreadPoolExecutor} are
+   * measured.
+   *
+   * @param remotePluginName The name of the remote plugin.
+   * @param executorName The name of the executor service.
+   * @param activeThreadsCount The approximate number of threads actively executing tasks.
+   * @param maxThreadsCount The maximum number of threads.
+   * @param queuedTasksCount The number of tasks waiting in the queue.
+   * @since 2.6.0
+   */
+  void recordExecutorUsage(
+      String remotePluginName,
+      String executorName,
+      int activeThreadsCount,
+      int maxThreadsCount,
+      int queuedTasksCount);
+}
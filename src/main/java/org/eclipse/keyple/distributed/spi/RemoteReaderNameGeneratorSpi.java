@@ -0,0 +1,43 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed.spi;
+
+/**
+ * Generator of the names of the remote readers created by a server remote plugin for each remote
+ * service, to be optionally implemented by the application.
+ *
+ * <p>The generator is provided using the {@code withRemoteReaderNameGenerator} method of the server
+ * factory builder. By default, the names are made of a random prefix drawn once per class loader
+ * (shared by all the plugins) followed by the value of a counter, which does not contend on {@link
+ * java.security.SecureRandom}. Random UUIDs can still be used with:
+ *
+ * <pre>{@code
+ * .withRemoteReaderNameGenerator((serviceId, clientNodeId) -> UUID.randomUUID().toString())
+ * }</pre>
+ *
+ * <p>The method is invoked concurrently from the threads processing the messages, so its
+ * implementation must be thread-safe.
+ *
+ * @since 2.6.0
+ */
+public interface RemoteReaderNameGeneratorSpi {
+
+  /**
+   * Generates the name of a new remote reader.
+   *
+   * @param serviceId The ID of the remote service the reader is created for.
+   * @param clientNodeId The ID of the client node which requested the remote service.
+   * @return A not empty string, unique among all the remote readers ever created by the plugin.
+   * @since 2.6.0
+   */
+  String generateRemoteReaderName(String serviceId, String clientNodeId);
+}
@@ -0,0 +1,46 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed.spi;
+
+import org.eclipse.keyple.distributed.RemoteReaderServer;
+
+/**
+ * Handler of the remote services of a given service ID, to be optionally implemented by the
+ * application.
+ *
+ * <p>The handler is registered on the server remote plugin using the {@code
+ * registerRemoteServiceHandler} method. Each remote reader created for the associated service ID
+ * is then directly delivered to the handler, without requiring the application to observe the
+ * plugin and to select the ticketing service from the service ID of each event.
+ *
+ * <p>The handler is invoked using the bulkhead of the service if one is configured, or the
+ * executor service provided to the server factory builder otherwise, so it is invoked concurrently
+ * for several remote readers and its implementation must be thread-safe.
+ *
+ * @since 2.6.0
+ */
+public interface RemoteServiceHandlerSpi {
+
+  /**
+   * Executes the remote service associated to the provided remote reader.
+   *
+   * <p>The Keyple reader can be retrieved from the plugin using the provided name. The remote
+   * service must be ended by invoking the {@code endRemoteService} method of the plugin, as for
+   * the remote services notified through the plugin observation.
+   *
+   * @param remoteReaderName The name of the remote reader created for the remote service.
+   * @param remoteReader The remote reader extension, providing the service ID, the initial card
+   *     content and the input data transmitted by the client.
+   * @since 2.6.0
+   */
+  void onRemoteService(String remoteReaderName, RemoteReaderServer remoteReader);
+}
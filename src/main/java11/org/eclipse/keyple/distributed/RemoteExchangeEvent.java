@@ -0,0 +1,143 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event describing the exchange of a message of the distributed protocol.
+ *
+ * <p>This Java 11 version is packaged in {@code META-INF/versions/11} of the multi-release JAR and
+ * replaces the no-op Java 8 version at runtime. No event is allocated while the event type is not
+ * enabled in a running recording.
+ *
+ * @since 2.6.0
+ */
+@Name("org.eclipse.keyple.distributed.RemoteExchange")
+@Label("Remote Exchange")
+@Category({"Eclipse Keyple", "Distributed"})
+@Description("Exchange of a message of the Keyple distributed protocol")
+@StackTrace(false)
+final class RemoteExchangeEvent extends Event {
+
+  private static final EventType EVENT_TYPE = EventType.getEventType(RemoteExchangeEvent.class);
+
+  @Label("Action")
+  String action;
+
+  @Label("Remote Reader Name")
+  String remoteReaderName;
+
+  @Label("Session ID")
+  String sessionId;
+
+  @Label("Service ID")
+  String serviceId;
+
+  @Label("Body Size")
+  @Description("Size of the request body encoded in UTF-8")
+  @DataAmount
+  int bodySize;
+
+  @Label("Successful")
+  boolean isSuccessful;
+
+  /** Constructor. */
+  private RemoteExchangeEvent() {}
+
+  /**
+   * Starts a new event if the event type is enabled in a running recording.
+   *
+   * @return Null if the event type is disabled.
+   * @since 2.6.0
+   */
+  static RemoteExchangeEvent start() {
+    if (!EVENT_TYPE.isEnabled()) {
+      return null;
+    }
+    RemoteExchangeEvent event = new RemoteExchangeEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Completes and commits the provided event if it matches the settings of the recording.
+   *
+   * @param event The event returned by {@link #start()} (optional).
+   * @param action The message action.
+   * @param remoteReaderName The remote reader name (optional).
+   * @param sessionId The session ID (optional).
+   * @param serviceId The service ID (optional).
+   * @param body The request body (optional).
+   * @param isSuccessful False if the exchange has failed.
+   * @since 2.6.0
+   */
+  static void record(
+      RemoteExchangeEvent event,
+      MessageDto.Action action,
+      String remoteReaderName,
+      String sessionId,
+      String serviceId,
+      String body,
+      boolean isSuccessful) {
+    if (event == null) {
+      return;
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.action = action.name();
+      event.remoteReaderName = remoteReaderName;
+      event.sessionId = sessionId;
+      event.serviceId = serviceId;
+      event.bodySize = body != null ? getUtf8Length(body) : 0;
+      event.isSuccessful = isSuccessful;
+      event.commit();
+    }
+  }
+
+  /**
+   * Computes the number of bytes of the provided string encoded in UTF-8, without encoding it.
+   *
+   * @param value The string.
+   * @return A positive value.
+   * @since 2.6.0
+   */
+  static int getUtf8Length(String value) {
+    int length = 0;
+    int count = value.length();
+    for (int i = 0; i < count; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < count
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        length++; // Unpaired surrogate, encoded as a replacement character.
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+}
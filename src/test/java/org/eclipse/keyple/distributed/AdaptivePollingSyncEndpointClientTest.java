@@ -0,0 +1,86 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptivePollingSyncEndpointClientTest {
+
+  SyncEndpointClientSpi endpoint;
+  AdaptivePollingSyncEndpointClient adaptiveEndpoint;
+
+  @Before
+  public void setUp() {
+    endpoint = mock(SyncEndpointClientSpi.class);
+    doReturn(Collections.emptyList()).when(endpoint).sendRequest(any(MessageDto.class));
+    adaptiveEndpoint =
+        new AdaptivePollingSyncEndpointClient(
+            endpoint, new PollingBackoff(60000, 60000), new PollingBackoff(60000, 60000));
+  }
+
+  static MessageDto buildMessage(MessageDto.Action action) {
+    return new MessageDto().setAction(action.name());
+  }
+
+  @Test
+  public void sendRequest_whenNotACheckOfEvents_shouldAlwaysForwardTheRequest() {
+    MessageDto message = buildMessage(MessageDto.Action.CMD);
+    adaptiveEndpoint.sendRequest(message);
+    adaptiveEndpoint.sendRequest(message);
+    verify(endpoint, times(2)).sendRequest(message);
+  }
+
+  @Test
+  public void sendRequest_whenCheckReturnedNoEvent_shouldSkipTheNextChecksUntilTheyAreDue() {
+    MessageDto message = buildMessage(MessageDto.Action.CHECK_PLUGIN_EVENT);
+    adaptiveEndpoint.sendRequest(message);
+    List<MessageDto> responses = adaptiveEndpoint.sendRequest(message);
+    assertThat(responses).isEmpty();
+    verify(endpoint, times(1)).sendRequest(message);
+  }
+
+  @Test
+  public void sendRequest_whenCheckReturnedEvents_shouldForwardTheNextCheck() {
+    MessageDto message = buildMessage(MessageDto.Action.CHECK_READER_EVENT);
+    doReturn(Collections.singletonList(buildMessage(MessageDto.Action.READER_EVENT)))
+        .when(endpoint)
+        .sendRequest(message);
+    adaptiveEndpoint.sendRequest(message);
+    adaptiveEndpoint.sendRequest(message);
+    verify(endpoint, times(2)).sendRequest(message);
+  }
+
+  @Test
+  public void sendRequest_whenPluginChecksAreBackedOff_shouldStillForwardTheReaderChecks() {
+    adaptiveEndpoint.sendRequest(buildMessage(MessageDto.Action.CHECK_PLUGIN_EVENT));
+    adaptiveEndpoint.sendRequest(buildMessage(MessageDto.Action.CHECK_PLUGIN_EVENT));
+    adaptiveEndpoint.sendRequest(buildMessage(MessageDto.Action.CHECK_READER_EVENT));
+    verify(endpoint, times(2)).sendRequest(any(MessageDto.class));
+  }
+
+  @Test
+  public void sendRequest_whenNoBackoffForTheCheck_shouldAlwaysForwardTheRequest() {
+    adaptiveEndpoint =
+        new AdaptivePollingSyncEndpointClient(endpoint, null, new PollingBackoff(60000, 60000));
+    MessageDto message = buildMessage(MessageDto.Action.CHECK_PLUGIN_EVENT);
+    adaptiveEndpoint.sendRequest(message);
+    adaptiveEndpoint.sendRequest(message);
+    verify(endpoint, times(2)).sendRequest(message);
+  }
+}
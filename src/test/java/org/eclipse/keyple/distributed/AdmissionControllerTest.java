@@ -0,0 +1,68 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class AdmissionControllerTest {
+
+  static final String CLIENT_NODE_ID_1 = "CLIENT_NODE_ID_1";
+  static final String CLIENT_NODE_ID_2 = "CLIENT_NODE_ID_2";
+
+  @Test
+  public void tryAcquire_whenUnlimited_shouldAlwaysGrantThePermit() {
+    AdmissionController controller = new AdmissionController(0, 0);
+    for (int i = 0; i < 100; i++) {
+      assertThat(controller.tryAcquire(CLIENT_NODE_ID_1)).isNull();
+    }
+    assertThat(controller.getClientRemoteReadersCount(CLIENT_NODE_ID_1)).isZero();
+  }
+
+  @Test
+  public void tryAcquire_whenGlobalLimitIsReached_shouldRejectUntilAPermitIsReleased() {
+    AdmissionController controller = new AdmissionController(2, 0);
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_1)).isNull();
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_2)).isNull();
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_2)).contains("[2]");
+    controller.release(CLIENT_NODE_ID_1);
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_2)).isNull();
+  }
+
+  @Test
+  public void tryAcquire_whenClientLimitIsReached_shouldOnlyRejectThisClient() {
+    AdmissionController controller = new AdmissionController(0, 1);
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_1)).isNull();
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_1)).contains(CLIENT_NODE_ID_1);
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_2)).isNull();
+    controller.release(CLIENT_NODE_ID_1);
+    assertThat(controller.getClientRemoteReadersCount(CLIENT_NODE_ID_1)).isZero();
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_1)).isNull();
+  }
+
+  @Test
+  public void tryAcquire_whenClientLimitIsReached_shouldGiveBackTheGlobalPermit() {
+    AdmissionController controller = new AdmissionController(2, 1);
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_1)).isNull();
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_1)).isNotNull();
+    assertThat(controller.tryAcquire(CLIENT_NODE_ID_2)).isNull();
+  }
+
+  @Test
+  public void tryAcquire_whenClientNodeIdIsNull_shouldOnlyApplyTheGlobalLimit() {
+    AdmissionController controller = new AdmissionController(2, 1);
+    assertThat(controller.tryAcquire(null)).isNull();
+    assertThat(controller.tryAcquire(null)).isNull();
+    assertThat(controller.tryAcquire(null)).isNotNull();
+  }
+}
@@ -0,0 +1,125 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.keyple.distributed.MessageDto.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventDispatcherTest {
+
+  static final String REMOTE_PLUGIN_NAME = "REMOTE_PLUGIN_NAME";
+  static final String REMOTE_READER_NAME_1 = "REMOTE_READER_NAME_1";
+  static final String REMOTE_READER_NAME_2 = "REMOTE_READER_NAME_2";
+
+  List<String> deliveredBodies;
+  EventDispatcher.EventConsumer consumer;
+  ExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    deliveredBodies = new ArrayList<String>();
+    consumer =
+        new EventDispatcher.EventConsumer() {
+          @Override
+          public void onEvent(Action action, String body, long startTime) {
+            synchronized (deliveredBodies) {
+              deliveredBodies.add(body);
+            }
+          }
+        };
+  }
+
+  @After
+  public void tearDown() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+  MessageDto buildReaderEvent(String remoteReaderName, String body) {
+    return new MessageDto()
+        .setAction(Action.READER_EVENT.name())
+        .setRemoteReaderName(remoteReaderName)
+        .setBody(body);
+  }
+
+  @Test
+  public void dispatch_whenNoExecutor_shouldDeliverSynchronously() {
+    EventDispatcher dispatcher = new EventDispatcher(REMOTE_PLUGIN_NAME, null, consumer);
+    dispatcher.dispatch(buildReaderEvent(REMOTE_READER_NAME_1, "{\"a\":1}"), 0);
+    assertThat(deliveredBodies).containsExactly("{\"a\":1}");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void dispatch_whenNoExecutorAndConsumerFails_shouldPropagateTheException() {
+    EventDispatcher dispatcher =
+        new EventDispatcher(
+            REMOTE_PLUGIN_NAME,
+            null,
+            new EventDispatcher.EventConsumer() {
+              @Override
+              public void onEvent(Action action, String body, long startTime) {
+                throw new IllegalStateException();
+              }
+            });
+    dispatcher.dispatch(buildReaderEvent(REMOTE_READER_NAME_1, "{}"), 0);
+  }
+
+  @Test
+  public void dispatch_whenExecutor_shouldDeliverAllEventsInOrder() throws InterruptedException {
+    executorService = Executors.newFixedThreadPool(4);
+    EventDispatcher dispatcher = new EventDispatcher(REMOTE_PLUGIN_NAME, executorService, consumer);
+    List<String> expectedBodies = new ArrayList<String>();
+    for (int i = 0; i < 100; i++) {
+      String body = "{\"a\":" + i + "}";
+      expectedBodies.add(body);
+      dispatcher.dispatch(
+          buildReaderEvent(i % 2 == 0 ? REMOTE_READER_NAME_1 : REMOTE_READER_NAME_2, body), 0);
+    }
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(deliveredBodies).containsExactlyElementsOf(expectedBodies);
+  }
+
+  @Test
+  public void dispatch_whenExecutorAndConsumerFails_shouldDeliverTheNextEvents()
+      throws InterruptedException {
+    executorService = Executors.newSingleThreadExecutor();
+    EventDispatcher dispatcher =
+        new EventDispatcher(
+            REMOTE_PLUGIN_NAME,
+            executorService,
+            new EventDispatcher.EventConsumer() {
+              @Override
+              public void onEvent(Action action, String body, long startTime) {
+                if ("{}".equals(body)) {
+                  throw new IllegalStateException();
+                }
+                consumer.onEvent(action, body, startTime);
+              }
+            });
+    dispatcher.dispatch(buildReaderEvent(REMOTE_READER_NAME_1, "{}"), 0);
+    dispatcher.dispatch(buildReaderEvent(REMOTE_READER_NAME_1, "{\"a\":1}"), 0);
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(deliveredBodies).containsExactly("{\"a\":1}");
+  }
+}
@@ -0,0 +1,101 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.junit.Test;
+
+public class ExecuteRemoteServiceBodyTest {
+
+  static final String SERVICE_ID = "SERVICE_ID";
+  static final String CLASS_NAME = "CLASS_NAME";
+  static final int CLIENT_CORE_API_LEVEL = 2;
+
+  static class Data {
+
+    private final String value;
+    private final int[] numbers;
+
+    public Data(String value, int[] numbers) {
+      this.value = value;
+      this.numbers = numbers;
+    }
+  }
+
+  static final Data DATA = new Data("\"quoted\" <value>", new int[] {1, 2, 3});
+
+  @Test
+  public void decode_whenKeyLayout_shouldCaptureScalarsAndNestedObjects() {
+    JsonObject body = new JsonObject();
+    body.addProperty(MessageDto.JsonProperty.CORE_API_LEVEL.getKey(), CLIENT_CORE_API_LEVEL);
+    body.addProperty(MessageDto.JsonProperty.SERVICE_ID.getKey(), SERVICE_ID);
+    body.addProperty(MessageDto.JsonProperty.IS_READER_CONTACTLESS.getKey(), true);
+    body.add(
+        MessageDto.JsonProperty.INITIAL_CARD_CONTENT.getKey(),
+        JsonUtil.getParser().toJsonTree(DATA));
+    body.addProperty(MessageDto.JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey(), CLASS_NAME);
+    body.add(MessageDto.JsonProperty.INPUT_DATA.getKey(), JsonUtil.getParser().toJsonTree(DATA));
+
+    ExecuteRemoteServiceBody decoded = ExecuteRemoteServiceBody.decode(body.toString());
+
+    assertThat(decoded.isKeyLayout()).isTrue();
+    assertThat(decoded.getCoreApiLevel()).isEqualTo(CLIENT_CORE_API_LEVEL);
+    assertThat(decoded.getServiceId()).isEqualTo(SERVICE_ID);
+    assertThat(decoded.isReaderContactless()).isTrue();
+    assertThat(decoded.getInitialCardContentJson())
+        .isEqualTo(body.get(MessageDto.JsonProperty.INITIAL_CARD_CONTENT.getKey()).toString());
+    assertThat(decoded.getInitialCardContentClassName()).isEqualTo(CLASS_NAME);
+    assertThat(decoded.getInputDataJson())
+        .isEqualTo(body.get(MessageDto.JsonProperty.INPUT_DATA.getKey()).toString());
+  }
+
+  @Test
+  public void decode_whenLegacyLayout_shouldCaptureNestedStrings() {
+    JsonObject body = new JsonObject();
+    body.addProperty(MessageDto.JsonProperty.SERVICE_ID.name(), SERVICE_ID);
+    body.addProperty(MessageDto.JsonProperty.INITIAL_CARD_CONTENT.name(), JsonUtil.toJson(DATA));
+    body.addProperty(MessageDto.JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.name(), CLASS_NAME);
+    body.addProperty(MessageDto.JsonProperty.INPUT_DATA.name(), JsonUtil.toJson(DATA));
+
+    ExecuteRemoteServiceBody decoded = ExecuteRemoteServiceBody.decode(body.toString());
+
+    assertThat(decoded.isKeyLayout()).isFalse();
+    assertThat(decoded.getCoreApiLevel()).isEqualTo(-1);
+    assertThat(decoded.getServiceId()).isEqualTo(SERVICE_ID);
+    assertThat(decoded.isReaderContactless()).isNull();
+    assertThat(decoded.getInitialCardContentJson()).isEqualTo(JsonUtil.toJson(DATA));
+    assertThat(decoded.getInitialCardContentClassName()).isEqualTo(CLASS_NAME);
+    assertThat(decoded.getInputDataJson()).isEqualTo(JsonUtil.toJson(DATA));
+  }
+
+  @Test
+  public void decode_whenUnknownPropertiesArePresent_shouldSkipThem() {
+    JsonObject body = new JsonObject();
+    body.add("unknown", JsonUtil.getParser().toJsonTree(DATA));
+    body.addProperty(MessageDto.JsonProperty.SERVICE_ID.getKey(), SERVICE_ID);
+
+    ExecuteRemoteServiceBody decoded = ExecuteRemoteServiceBody.decode(body.toString());
+
+    assertThat(decoded.getServiceId()).isEqualTo(SERVICE_ID);
+    assertThat(decoded.getInitialCardContentJson()).isNull();
+    assertThat(decoded.getInputDataJson()).isNull();
+  }
+
+  @Test(expected = JsonSyntaxException.class)
+  public void decode_whenBodyIsMalformed_shouldThrowJSE() {
+    ExecuteRemoteServiceBody.decode("{\"a\":");
+  }
+}
@@ -0,0 +1,119 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GlobalSessionTest {
+
+  AbstractNodeAdapter node;
+  GlobalSession globalSession;
+
+  @Before
+  public void setUp() {
+    node = mock(AbstractNodeAdapter.class);
+    globalSession = new GlobalSession();
+  }
+
+  @Test
+  public void get_whenNotOpen_shouldReturnNull() {
+    assertThat(globalSession.get()).isNull();
+  }
+
+  @Test
+  public void acquire_shouldOpenTheSessionOnce() {
+    String sessionId = globalSession.acquire(node);
+    assertThat(sessionId).isNotEmpty();
+    assertThat(globalSession.acquire(node)).isEqualTo(sessionId);
+    assertThat(globalSession.get()).isEqualTo(sessionId);
+    verify(node, times(1)).openSession(sessionId);
+  }
+
+  @Test
+  public void acquire_whenOpeningFails_shouldAllowANewAttempt() {
+    doThrow(new IllegalStateException()).doNothing().when(node).openSession(anyString());
+    try {
+      globalSession.acquire(node);
+      shouldHaveThrown(IllegalStateException.class);
+    } catch (IllegalStateException e) {
+      assertThat(globalSession.get()).isNull();
+    }
+    assertThat(globalSession.acquire(node)).isNotEmpty();
+    verify(node, times(2)).openSession(anyString());
+  }
+
+  @Test
+  public void acquire_whenCalledConcurrently_shouldOpenASingleSession() throws Exception {
+    final List<String> openedSessionIds = new CopyOnWriteArrayList<String>();
+    doAnswer(
+            invocation -> {
+              openedSessionIds.add(invocation.getArgument(0));
+              Thread.sleep(50);
+              return null;
+            })
+        .when(node)
+        .openSession(anyString());
+    int threadsCount = 8;
+    final CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threadsCount);
+    List<Future<String>> futures = new CopyOnWriteArrayList<Future<String>>();
+    for (int i = 0; i < threadsCount; i++) {
+      futures.add(
+          executor.submit(
+              new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                  start.await();
+                  return globalSession.acquire(node);
+                }
+              }));
+    }
+    start.countDown();
+    Set<String> sessionIds = new HashSet<String>();
+    for (Future<String> future : futures) {
+      sessionIds.add(future.get(5, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+    assertThat(openedSessionIds).hasSize(1);
+    assertThat(sessionIds).containsExactly(openedSessionIds.get(0));
+  }
+
+  @Test
+  public void close_whenOpen_shouldCloseTheSessionAndAllowToReopen() {
+    String sessionId = globalSession.acquire(node);
+    globalSession.close(node);
+    verify(node).closeSessionSilently(sessionId);
+    assertThat(globalSession.get()).isNull();
+    assertThat(globalSession.acquire(node)).isNotEqualTo(sessionId);
+  }
+
+  @Test
+  public void close_whenNotOpen_shouldDoNothing() {
+    globalSession.close(node);
+    verify(node, never()).closeSessionSilently(anyString());
+  }
+}
@@ -0,0 +1,46 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class LogRateLimiterTest {
+
+  @Test
+  public void tryAcquire_whenLimitIsNotReached_shouldPermitTheLogs() {
+    LogRateLimiter limiter = new LogRateLimiter(2);
+    assertThat(limiter.tryAcquire()).isZero();
+    assertThat(limiter.tryAcquire()).isZero();
+  }
+
+  @Test
+  public void tryAcquire_whenLimitIsReached_shouldSuppressTheLogs() {
+    LogRateLimiter limiter = new LogRateLimiter(1);
+    assertThat(limiter.tryAcquire()).isZero();
+    assertThat(limiter.tryAcquire()).isEqualTo(-1);
+    assertThat(limiter.tryAcquire()).isEqualTo(-1);
+  }
+
+  @Test
+  public void tryAcquire_whenNextWindowStarts_shouldReportTheSuppressedLogs()
+      throws InterruptedException {
+    LogRateLimiter limiter = new LogRateLimiter(1);
+    limiter.tryAcquire();
+    limiter.tryAcquire();
+    limiter.tryAcquire();
+    Thread.sleep(1100);
+    assertThat(limiter.tryAcquire()).isEqualTo(2);
+    assertThat(limiter.tryAcquire()).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,160 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatcher;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+
+public class LoopbackNetworkAdapterTest {
+
+  static final String SESSION_ID = "SESSION_ID";
+  static final String CMD_DATA = "CMD_DATA";
+  static final String RESP_DATA = "RESP_DATA";
+  static final int TIMEOUT_MILLIS = 1000;
+
+  static final MessageDto CMD_MSG =
+      new MessageDto()
+          .setApiLevel(MessageDto.API_LEVEL)
+          .setAction(MessageDto.Action.CMD.name())
+          .setSessionId(SESSION_ID)
+          .setBody(CMD_DATA);
+
+  static final MessageDto RESP_MSG =
+      new MessageDto()
+          .setApiLevel(MessageDto.API_LEVEL)
+          .setAction(MessageDto.Action.RESP.name())
+          .setSessionId(SESSION_ID)
+          .setBody(RESP_DATA);
+
+  LoopbackNetwork network;
+
+  private static ArgumentMatcher<MessageDto> hasBody(final String body) {
+    return new ArgumentMatcher<MessageDto>() {
+      @Override
+      public boolean matches(MessageDto argument) {
+        return body.equals(argument.getBody()) && SESSION_ID.equals(argument.getSessionId());
+      }
+    };
+  }
+
+  @Before
+  public void setUp() {
+    network = LoopbackNetworkBuilder.builder().withLatency(1).withJitter(1).build();
+  }
+
+  @After
+  public void tearDown() {
+    network.shutdown();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenLatencyIsNegative_shouldThrowIAE() {
+    LoopbackNetworkBuilder.builder().withLatency(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenJitterIsNegative_shouldThrowIAE() {
+    LoopbackNetworkBuilder.builder().withJitter(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenBandwidthIsLessThan1_shouldThrowIAE() {
+    LoopbackNetworkBuilder.builder().withBandwidth(0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void syncSendRequest_whenNoNodeIsBound_shouldThrowISE() {
+    network.getSyncEndpointClient().sendRequest(CMD_MSG);
+  }
+
+  @Test
+  public void syncSendRequest_shouldForwardACopyOfTheRequestAndReturnACopyOfTheResponses() {
+    SyncNodeServer node = mock(SyncNodeServer.class);
+    doReturn(Collections.singletonList(RESP_MSG))
+        .when(node)
+        .onRequest(ArgumentMatchers.argThat(hasBody(CMD_DATA)));
+    network.bindSyncNodeServer(node);
+    List<MessageDto> responses = network.getSyncEndpointClient().sendRequest(CMD_MSG);
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0)).isNotSameAs(RESP_MSG);
+    assertThat(responses.get(0).getBody()).isEqualTo(RESP_DATA);
+    verify(node, never()).onRequest(same(CMD_MSG));
+  }
+
+  @Test
+  public void asyncOpenSession_shouldNotifyTheClientNode() {
+    AsyncNodeClient node = mock(AsyncNodeClient.class);
+    network.bindAsyncNodeClient(node);
+    network.getAsyncEndpointClient().openSession(SESSION_ID);
+    verify(node, timeout(TIMEOUT_MILLIS)).onOpen(SESSION_ID);
+  }
+
+  @Test
+  public void asyncClientSendMessage_shouldDeliverTheMessageToTheServerNode() {
+    AsyncNodeServer node = mock(AsyncNodeServer.class);
+    network.bindAsyncNodeServer(node);
+    network.getAsyncEndpointClient().sendMessage(CMD_MSG);
+    verify(node, timeout(TIMEOUT_MILLIS)).onMessage(ArgumentMatchers.argThat(hasBody(CMD_DATA)));
+  }
+
+  @Test
+  public void asyncServerSendMessage_shouldDeliverTheMessageToTheClientNode() {
+    AsyncNodeClient node = mock(AsyncNodeClient.class);
+    network.bindAsyncNodeClient(node);
+    network.getAsyncEndpointServer().sendMessage(RESP_MSG);
+    verify(node, timeout(TIMEOUT_MILLIS)).onMessage(ArgumentMatchers.argThat(hasBody(RESP_DATA)));
+  }
+
+  @Test
+  public void asyncSendMessage_whenJitter_shouldDeliverTheMessagesOfASessionInOrder() {
+    network.shutdown();
+    network = LoopbackNetworkBuilder.builder().withJitter(5).build();
+    AsyncNodeServer node = mock(AsyncNodeServer.class);
+    network.bindAsyncNodeServer(node);
+    for (int i = 0; i < 20; i++) {
+      network
+          .getAsyncEndpointClient()
+          .sendMessage(
+              new MessageDto()
+                  .setApiLevel(MessageDto.API_LEVEL)
+                  .setAction(MessageDto.Action.CMD.name())
+                  .setSessionId(SESSION_ID)
+                  .setBody(CMD_DATA + i));
+    }
+    verify(node, timeout(TIMEOUT_MILLIS))
+        .onMessage(ArgumentMatchers.argThat(hasBody(CMD_DATA + 19)));
+    InOrder inOrder = inOrder(node);
+    for (int i = 0; i < 20; i++) {
+      inOrder.verify(node).onMessage(ArgumentMatchers.argThat(hasBody(CMD_DATA + i)));
+    }
+  }
+
+  @Test
+  public void asyncCloseSession_shouldNotifyBothNodes() {
+    AsyncNodeClient clientNode = mock(AsyncNodeClient.class);
+    AsyncNodeServer serverNode = mock(AsyncNodeServer.class);
+    network.bindAsyncNodeClient(clientNode);
+    network.bindAsyncNodeServer(serverNode);
+    network.getAsyncEndpointClient().closeSession(SESSION_ID);
+    verify(serverNode, timeout(TIMEOUT_MILLIS)).onClose(SESSION_ID);
+    verify(clientNode, timeout(TIMEOUT_MILLIS)).onClose(SESSION_ID);
+  }
+}
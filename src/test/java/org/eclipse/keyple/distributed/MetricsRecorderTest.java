@@ -0,0 +1,79 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetricsRecorderTest {
+
+  static final String REMOTE_PLUGIN_NAME = "REMOTE_PLUGIN_NAME";
+
+  RemotePluginMetricsSpi metrics;
+  MetricsRecorder recorder;
+
+  @Before
+  public void setUp() {
+    metrics = mock(RemotePluginMetricsSpi.class);
+    recorder = new MetricsRecorder(metrics, REMOTE_PLUGIN_NAME);
+  }
+
+  @Test
+  public void recordExchange_shouldForwardTheBodySizesAndTheOutcome() {
+    recorder.recordExchange(MessageDto.Action.CMD, recorder.startTime(), "REQ", null, false);
+    verify(metrics)
+        .recordExchange(eq(REMOTE_PLUGIN_NAME), eq("CMD"), anyLong(), eq(3), eq(0), eq(false));
+  }
+
+  @Test
+  public void recordExchange_whenSpiFails_shouldNotPropagateTheException() {
+    doThrow(new IllegalStateException())
+        .when(metrics)
+        .recordExchange(anyString(), anyString(), anyLong(), anyInt(), anyInt(), anyBoolean());
+    recorder.recordExchange(MessageDto.Action.CMD, recorder.startTime(), null, null, true);
+  }
+
+  @Test
+  public void recordActiveRemoteReaders_shouldForwardTheCount() {
+    recorder.recordActiveRemoteReaders(2);
+    verify(metrics).recordActiveRemoteReaders(REMOTE_PLUGIN_NAME, 2);
+  }
+
+  @Test
+  public void recordExecutorUsage_whenThreadPoolExecutor_shouldForwardTheUsage() {
+    ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(3);
+    recorder.recordExecutorUsage("EXECUTOR", executor);
+    executor.shutdown();
+    verify(metrics).recordExecutorUsage(REMOTE_PLUGIN_NAME, "EXECUTOR", 0, 3, 0);
+  }
+
+  @Test
+  public void recordExecutorUsage_whenOtherExecutor_shouldRecordNothing() {
+    ExecutorService executor = mock(ExecutorService.class);
+    recorder.recordExecutorUsage("EXECUTOR", executor);
+    verifyNoInteractions(metrics);
+  }
+
+  @Test
+  public void noOp_shouldNotReadTheClock() {
+    MetricsRecorder.NO_OP.recordExchange(MessageDto.Action.CMD, 0L, null, null, true);
+    MetricsRecorder.NO_OP.recordActiveRemoteReaders(1);
+    assertThat(MetricsRecorder.NO_OP.startTime()).isZero();
+  }
+}
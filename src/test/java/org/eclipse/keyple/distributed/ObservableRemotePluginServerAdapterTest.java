@@ -12,18 +12,28 @@
 package org.eclipse.keyple.distributed;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
 import static org.eclipse.keyple.distributed.MessageDto.API_LEVEL;
 import static org.mockito.Mockito.*;
 
 import com.google.gson.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.keyple.core.distributed.remote.ObservableRemotePluginApi;
 import org.eclipse.keyple.core.distributed.remote.RemotePluginApi;
 import org.eclipse.keyple.core.distributed.remote.spi.RemotePluginFactorySpi;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
+import org.eclipse.keyple.distributed.spi.RemoteReaderNameGeneratorSpi;
+import org.eclipse.keyple.distributed.spi.RemoteServiceHandlerSpi;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
 
@@ -181,38 +191,40 @@ public boolean matches(RemoteReaderServerAdapter argument) {
   public void setUp() {
 
     // SYNC
-    syncPlugin =
-        (ObservableRemotePluginServerAdapter)
-            ((RemotePluginFactorySpi)
-                    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
-                        .withSyncNode()
-                        .build())
-                .getRemotePlugin();
-
     syncRemotePluginApi = mock(RemotePluginApi.class);
 
     syncObservableRemotePluginApi = mock(ObservableRemotePluginApi.class);
 
+    syncPlugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode(),
+            syncObservableRemotePluginApi);
     syncPlugin.connect(syncRemotePluginApi);
-    syncPlugin.connect(syncObservableRemotePluginApi);
 
     // ASYNC
     asyncEndpointServerSpi = mock(AsyncEndpointServerSpi.class);
 
-    asyncPlugin =
-        (ObservableRemotePluginServerAdapter)
-            ((RemotePluginFactorySpi)
-                    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
-                        .withAsyncNode(asyncEndpointServerSpi)
-                        .build())
-                .getRemotePlugin();
-
     asyncRemotePluginApi = mock(RemotePluginApi.class);
 
     asyncObservableRemotePluginApi = mock(ObservableRemotePluginApi.class);
 
+    asyncPlugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi),
+            asyncObservableRemotePluginApi);
     asyncPlugin.connect(asyncRemotePluginApi);
-    asyncPlugin.connect(asyncObservableRemotePluginApi);
+  }
+
+  /** Builds the plugin configured by the provided builder and connects it to the provided API. */
+  private static ObservableRemotePluginServerAdapter buildPlugin(
+      RemotePluginServerFactoryBuilder.BuilderStep builder, ObservableRemotePluginApi api) {
+    ObservableRemotePluginServerAdapter plugin =
+        (ObservableRemotePluginServerAdapter)
+            ((RemotePluginFactorySpi) builder.build()).getRemotePlugin();
+    plugin.connect(api);
+    return plugin;
   }
 
   @Test
@@ -418,4 +430,729 @@ public void onMessage_whenAllInfoAreProvided_shouldCreateARemoteReaderAndInvokeT
             eq(-1));
     verifyNoMoreInteractions(asyncObservableRemotePluginApi);
   }
+
+  private RemoteReaderServerAdapter captureRemoteReader(ObservableRemotePluginApi api) {
+    ArgumentCaptor<RemoteReaderServerAdapter> captor =
+        ArgumentCaptor.forClass(RemoteReaderServerAdapter.class);
+    verify(api).addRemoteReader(captor.capture(), anyInt());
+    return captor.getValue();
+  }
+
+  @Test
+  public void getEvictedRemoteReadersCount_whenNoReaderWasEvicted_shouldReturnZero() {
+    assertThat(syncPlugin.getEvictedRemoteReadersCount()).isZero();
+  }
+
+  @Test
+  public void evictExpiredRemoteReaders_whenNoLimitIsConfigured_shouldNotEvictTheReader() {
+    syncPlugin.onMessage(buildMessage(null, null, false));
+    syncPlugin.evictExpiredRemoteReaders(System.nanoTime() + TimeUnit.DAYS.toNanos(1));
+    verify(syncObservableRemotePluginApi, never()).removeRemoteReader(anyString());
+    assertThat(syncPlugin.getEvictedRemoteReadersCount()).isZero();
+  }
+
+  @Test
+  public void evictExpiredRemoteReaders_whenMaxLifetimeIsNotExceeded_shouldNotEvictTheReader() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteServiceMaxLifetime(60),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    plugin.evictExpiredRemoteReaders(System.nanoTime());
+    verify(api, never()).removeRemoteReader(anyString());
+    assertThat(plugin.getEvictedRemoteReadersCount()).isZero();
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void evictExpiredRemoteReaders_whenMaxLifetimeIsExceeded_shouldEvictTheReader() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteServiceMaxLifetime(60),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(api);
+    plugin.evictExpiredRemoteReaders(System.nanoTime() + TimeUnit.SECONDS.toNanos(61));
+    verify(api).removeRemoteReader(reader.getName());
+    assertThat(plugin.getEvictedRemoteReadersCount()).isEqualTo(1);
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void evictExpiredRemoteReaders_whenIdleTimeoutIsExceeded_shouldEvictTheReader() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteServiceIdleTimeout(10),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(api);
+    plugin.evictExpiredRemoteReaders(System.nanoTime() + TimeUnit.SECONDS.toNanos(11));
+    verify(api).removeRemoteReader(reader.getName());
+    assertThat(plugin.getEvictedRemoteReadersCount()).isEqualTo(1);
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void evictExpiredRemoteReaders_whenReaderIsActive_shouldNotEvictTheReader() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteServiceIdleTimeout(10),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(api);
+    reader.onCommandStart();
+    reader.onCommandEnd();
+    plugin.evictExpiredRemoteReaders(reader.getLastActivityTimeNanos());
+    verify(api, never()).removeRemoteReader(anyString());
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void evictExpiredRemoteReaders_whenCommandIsInProgress_shouldEvictOnlyOnceCompleted() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteServiceMaxLifetime(60)
+                .withRemoteServiceIdleTimeout(10),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(api);
+    reader.onCommandStart();
+    plugin.evictExpiredRemoteReaders(System.nanoTime() + TimeUnit.SECONDS.toNanos(61));
+    verify(api, never()).removeRemoteReader(anyString());
+    reader.onCommandEnd();
+    plugin.evictExpiredRemoteReaders(System.nanoTime() + TimeUnit.SECONDS.toNanos(61));
+    verify(api).removeRemoteReader(reader.getName());
+    assertThat(plugin.getEvictedRemoteReadersCount()).isEqualTo(1);
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void evictExpiredRemoteReaders_whenReaderIsEvicted_shouldSendAnErrorToTheClient() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withRemoteServiceIdleTimeout(10),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    plugin.evictExpiredRemoteReaders(System.nanoTime() + TimeUnit.SECONDS.toNanos(11));
+    ArgumentCaptor<MessageDto> captor = ArgumentCaptor.forClass(MessageDto.class);
+    verify(asyncEndpointServerSpi).sendMessage(captor.capture());
+    MessageDto message = captor.getValue();
+    assertThat(message.getAction()).isEqualTo(MessageDto.Action.ERROR.name());
+    assertThat(message.getSessionId()).isEqualTo(SESSION_ID);
+    assertThat(message.getClientNodeId()).isEqualTo(CLIENT_NODE_ID);
+    assertThat(message.getLocalReaderName()).isEqualTo(LOCAL_READER_NAME);
+    plugin.onUnregister();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void endRemoteService_whenReaderWasEvicted_shouldThrowIAE() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteServiceIdleTimeout(10),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(api);
+    plugin.evictExpiredRemoteReaders(System.nanoTime() + TimeUnit.SECONDS.toNanos(11));
+    plugin.onUnregister();
+    plugin.endRemoteService(reader.getName(), null);
+  }
+
+  private MessageDto captureAsyncEndRemoteServiceMessage() {
+    ArgumentCaptor<MessageDto> captor = ArgumentCaptor.forClass(MessageDto.class);
+    verify(asyncEndpointServerSpi).sendMessage(captor.capture());
+    MessageDto message = captor.getValue();
+    assertThat(message.getAction()).isEqualTo(MessageDto.Action.END_REMOTE_SERVICE.name());
+    return message;
+  }
+
+  @Test
+  public void endRemoteService_whenOutputDataIsProvided_shouldSendTheOutputDataAsJsonObject() {
+    asyncPlugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(asyncObservableRemotePluginApi);
+    asyncPlugin.endRemoteService(reader.getName(), INPUT_DATA);
+    JsonObject body =
+        JsonUtil.getParser()
+            .fromJson(captureAsyncEndRemoteServiceMessage().getBody(), JsonObject.class);
+    assertThat(body.get(MessageDto.JsonProperty.CORE_API_LEVEL.getKey()).getAsInt())
+        .isEqualTo(CLIENT_CORE_API_LEVEL);
+    assertThat(body.get(MessageDto.JsonProperty.OUTPUT_DATA.getKey()))
+        .isEqualTo(JsonUtil.getParser().toJsonTree(INPUT_DATA));
+  }
+
+  @Test
+  public void endRemoteServiceWithJsonOutput_shouldSendTheProvidedJsonAsIs() {
+    asyncPlugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(asyncObservableRemotePluginApi);
+    asyncPlugin.endRemoteServiceWithJsonOutput(reader.getName(), JsonUtil.toJson(INPUT_DATA));
+    verify(asyncObservableRemotePluginApi).removeRemoteReader(reader.getName());
+    JsonObject body =
+        JsonUtil.getParser()
+            .fromJson(captureAsyncEndRemoteServiceMessage().getBody(), JsonObject.class);
+    assertThat(body.get(MessageDto.JsonProperty.OUTPUT_DATA.getKey()))
+        .isEqualTo(JsonUtil.getParser().toJsonTree(INPUT_DATA));
+  }
+
+  @Test
+  public void endRemoteServiceWithJsonOutput_whenUtf8Bytes_shouldSendTheDecodedJson() {
+    asyncPlugin.onMessage(buildMessage(null, null, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(asyncObservableRemotePluginApi);
+    asyncPlugin.endRemoteServiceWithJsonOutput(
+        reader.getName(), JsonUtil.toJson(INPUT_DATA).getBytes(StandardCharsets.UTF_8));
+    JsonObject body =
+        JsonUtil.getParser()
+            .fromJson(captureAsyncEndRemoteServiceMessage().getBody(), JsonObject.class);
+    assertThat(body.get(MessageDto.JsonProperty.OUTPUT_DATA.getKey()))
+        .isEqualTo(JsonUtil.getParser().toJsonTree(INPUT_DATA));
+  }
+
+  @Test
+  public void endRemoteServiceWithJsonOutput_whenLegacyMode_shouldSendTheJsonAsString() {
+    asyncPlugin.onMessage(buildMessage(null, null, true));
+    RemoteReaderServerAdapter reader = captureRemoteReader(asyncObservableRemotePluginApi);
+    asyncPlugin.endRemoteServiceWithJsonOutput(reader.getName(), JsonUtil.toJson(INPUT_DATA));
+    JsonObject body =
+        JsonUtil.getParser()
+            .fromJson(captureAsyncEndRemoteServiceMessage().getBody(), JsonObject.class);
+    assertThat(body.get(MessageDto.JsonProperty.OUTPUT_DATA.name()).getAsString())
+        .isEqualTo(JsonUtil.toJson(INPUT_DATA));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void endRemoteServiceWithJsonOutput_whenReaderNameIsUnknown_shouldThrowIAE() {
+    asyncPlugin.endRemoteServiceWithJsonOutput(UNKNOWN, "{}");
+  }
+
+  @Test
+  public void onMessage_whenMetricsAreEnabled_shouldRecordTheExchangeAndTheActiveReaders() {
+    RemotePluginMetricsSpi metrics = mock(RemotePluginMetricsSpi.class);
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withMetrics(metrics),
+            api);
+    MessageDto message = buildMessage(CARD_CONTENT, INPUT_DATA, false);
+    plugin.onMessage(message);
+    verify(metrics)
+        .recordExchange(
+            eq(REMOTE_PLUGIN_NAME),
+            eq(MessageDto.Action.EXECUTE_REMOTE_SERVICE.name()),
+            anyLong(),
+            eq(message.getBody().length()),
+            eq(0),
+            eq(true));
+    verify(metrics).recordActiveRemoteReaders(REMOTE_PLUGIN_NAME, 1);
+    plugin.endRemoteService(captureRemoteReader(api).getName(), null);
+    verify(metrics)
+        .recordExchange(
+            eq(REMOTE_PLUGIN_NAME),
+            eq(MessageDto.Action.END_REMOTE_SERVICE.name()),
+            anyLong(),
+            anyInt(),
+            eq(0),
+            eq(true));
+    verify(metrics).recordActiveRemoteReaders(REMOTE_PLUGIN_NAME, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenMetricsIsNull_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME).withSyncNode().withMetrics(null);
+  }
+
+  @Test
+  public void onMessage_whenDefaultNameGenerator_shouldCreateReadersWithDistinctNames() {
+    syncPlugin.onMessage(buildMessage(null, null, false));
+    syncPlugin.onMessage(buildMessage(null, null, false));
+    ArgumentCaptor<RemoteReaderServerAdapter> captor =
+        ArgumentCaptor.forClass(RemoteReaderServerAdapter.class);
+    verify(syncObservableRemotePluginApi, times(2)).addRemoteReader(captor.capture(), anyInt());
+    assertThat(captor.getAllValues().get(0).getName())
+        .isNotEmpty()
+        .isNotEqualTo(captor.getAllValues().get(1).getName());
+  }
+
+  @Test
+  public void onMessage_whenCustomNameGenerator_shouldUseTheGeneratedName() {
+    RemoteReaderNameGeneratorSpi generator = mock(RemoteReaderNameGeneratorSpi.class);
+    doReturn("READER_1").when(generator).generateRemoteReaderName(SERVICE_ID, CLIENT_NODE_ID);
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteReaderNameGenerator(generator),
+            api)
+        .onMessage(buildMessage(null, null, false));
+    assertThat(captureRemoteReader(api).getName()).isEqualTo("READER_1");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void onMessage_whenGeneratedNameAlreadyExists_shouldThrowISE() {
+    RemoteReaderNameGeneratorSpi generator = mock(RemoteReaderNameGeneratorSpi.class);
+    doReturn("READER_1").when(generator).generateRemoteReaderName(anyString(), anyString());
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteReaderNameGenerator(generator),
+            mock(ObservableRemotePluginApi.class));
+    plugin.onMessage(buildMessage(null, null, false));
+    plugin.onMessage(buildMessage(null, null, false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenRemoteReaderNameGeneratorIsNull_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withRemoteReaderNameGenerator(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenCreationLogRateLimitIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withRemoteReaderCreationLogRateLimit(0);
+  }
+
+  @Test
+  public void onMessage_whenCreationLogRateLimitIsExceeded_shouldStillCreateTheReaders() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withRemoteReaderCreationLogRateLimit(1),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    plugin.onMessage(buildMessage(null, null, false));
+    verify(api, times(2)).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenDispatcherThreadsCountIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withRemoteServiceDispatcher(0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenDispatcherQueueCapacityIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withRemoteServiceDispatcher(1, 0);
+  }
+
+  @Test
+  public void getRejectedRemoteServicesCount_whenNoDispatcherIsConfigured_shouldReturnZero() {
+    asyncPlugin.onMessage(buildMessage(null, null, false));
+    assertThat(asyncPlugin.getRejectedRemoteServicesCount()).isZero();
+  }
+
+  @Test
+  public void onMessage_whenDispatcherIsConfigured_shouldCreateTheReaderOnADispatcherThread() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withRemoteServiceDispatcher(1, 1),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    verify(api, timeout(1000))
+        .addRemoteReader(
+            ArgumentMatchers.argThat(
+                getRemoteReaderServerAdapterMatcher(plugin.getNode(), false, false)),
+            eq(CLIENT_CORE_API_LEVEL));
+    assertThat(plugin.getRejectedRemoteServicesCount()).isZero();
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void onMessage_whenDispatcherIsSaturated_shouldRejectTheRequestAndSendAnError()
+      throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    doAnswer(
+            invocation -> {
+              release.await(1, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(api)
+        .addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withRemoteServiceDispatcher(1, 1),
+            api);
+    plugin.onMessage(buildMessage(null, null, false)); // running
+    plugin.onMessage(buildMessage(null, null, false)); // queued
+    plugin.onMessage(buildMessage(null, null, false)); // rejected
+    assertThat(plugin.getRejectedRemoteServicesCount()).isEqualTo(1);
+    verify(asyncEndpointServerSpi)
+        .sendMessage(
+            ArgumentMatchers.argThat(
+                message -> MessageDto.Action.ERROR.name().equals(message.getAction())));
+    release.countDown();
+    verify(api, timeout(1000).times(2))
+        .addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    plugin.onUnregister();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenMaxRemoteReadersIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withMaxRemoteReaders(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenMaxRemoteReadersPerClientIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withMaxRemoteReadersPerClient(0);
+  }
+
+  @Test
+  public void onMessage_whenMaxRemoteReadersIsReached_shouldRejectUntilARemoteServiceEnds() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withMaxRemoteReaders(1),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    plugin.onMessage(buildMessage(null, null, false));
+    verify(api, times(1)).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    assertThat(plugin.getRejectedRemoteServicesCount()).isEqualTo(1);
+    verify(asyncEndpointServerSpi)
+        .sendMessage(
+            ArgumentMatchers.argThat(
+                message -> MessageDto.Action.ERROR.name().equals(message.getAction())));
+    plugin.endRemoteService(captureRemoteReader(api).getName(), null);
+    plugin.onMessage(buildMessage(null, null, false));
+    verify(api, times(2)).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+  }
+
+  @Test
+  public void onMessage_whenMaxRemoteReadersPerClientIsReached_shouldOnlyRejectThisClient() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withMaxRemoteReadersPerClient(1),
+            api);
+    plugin.onMessage(buildMessage(null, null, false));
+    plugin.onMessage(buildMessage(null, null, false));
+    plugin.onMessage(buildMessage(null, null, false).setClientNodeId("OTHER_CLIENT_NODE_ID"));
+    verify(api, times(2)).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    assertThat(plugin.getRejectedRemoteServicesCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void onMessage_whenRemoteServiceFailsToStart_shouldGiveBackTheAdmission() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withMaxRemoteReaders(1),
+            api);
+    try {
+      plugin.onMessage(buildMessage(null, null, false).setBody("{}"));
+    } catch (IllegalStateException e) {
+      // Service ID not found.
+    }
+    plugin.onMessage(buildMessage(null, null, false));
+    verify(api).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    assertThat(plugin.getRejectedRemoteServicesCount()).isZero();
+  }
+
+  @Test
+  public void onMessage_whenRemoteReaderRegistrationFails_shouldDiscardTheReaderAndItsAdmission() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    doThrow(new IllegalStateException("failure"))
+        .doNothing()
+        .when(api)
+        .addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withSyncNode()
+                .withMaxRemoteReaders(1),
+            api);
+    try {
+      plugin.onMessage(buildMessage(null, null, false));
+    } catch (IllegalStateException e) {
+      // Registration failure.
+    }
+    ArgumentCaptor<RemoteReaderServerAdapter> captor =
+        ArgumentCaptor.forClass(RemoteReaderServerAdapter.class);
+    verify(api).addRemoteReader(captor.capture(), anyInt());
+    String failedReaderName = captor.getValue().getName();
+    plugin.onMessage(buildMessage(null, null, false));
+    verify(api, times(2)).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    assertThat(plugin.getRejectedRemoteServicesCount()).isZero();
+    try {
+      plugin.endRemoteService(failedReaderName, null);
+      shouldHaveThrown(IllegalArgumentException.class);
+    } catch (IllegalArgumentException e) {
+      // Unknown remote reader.
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenServiceBulkheadIsAlreadyConfigured_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withServiceBulkhead(SERVICE_ID, 1, 1)
+        .withServiceBulkhead(SERVICE_ID, 1, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenServiceBulkheadThreadsCountIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withServiceBulkhead(SERVICE_ID, 0, 1);
+  }
+
+  @Test
+  public void getExecutorService_whenServiceBulkheadIsConfigured_shouldReturnARoutingExecutor() {
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withServiceBulkhead(SERVICE_ID, 1, 1),
+            mock(ObservableRemotePluginApi.class));
+    assertThat(plugin.getExecutorService()).isInstanceOf(ServiceRoutingExecutorService.class);
+    plugin.onUnregister();
+    assertThat(plugin.getExecutorService().isShutdown()).isTrue();
+  }
+
+  @Test
+  public void onMessage_whenServiceBulkheadIsSaturated_shouldRejectTheRequestAndSendAnError() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withServiceBulkhead(SERVICE_ID, 1, 1),
+            api);
+    final CountDownLatch release = new CountDownLatch(1);
+    ServiceRoutingExecutorService router =
+        (ServiceRoutingExecutorService) plugin.getExecutorService();
+    router.enter(SERVICE_ID);
+    try {
+      for (int i = 0; i < 2; i++) { // running + queued
+        router.execute(
+            () -> {
+              try {
+                release.await(1, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+      }
+    } finally {
+      router.exit();
+    }
+    plugin.onMessage(buildMessage(null, null, false));
+    verify(api, never()).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    assertThat(plugin.getRejectedRemoteServicesCount()).isEqualTo(1);
+    verify(asyncEndpointServerSpi)
+        .sendMessage(
+            ArgumentMatchers.argThat(
+                message -> MessageDto.Action.ERROR.name().equals(message.getAction())));
+    release.countDown();
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void onMessage_whenServiceBulkheadSaturatesDuringTheNotification_shouldRejectTheRequest() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+                .withAsyncNode(asyncEndpointServerSpi)
+                .withServiceBulkhead(SERVICE_ID, 1, 1),
+            api);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicBoolean isNotified = new AtomicBoolean();
+    final ExecutorService router = plugin.getExecutorService();
+    doAnswer(
+            invocation -> {
+              for (int i = 0; i < 2; i++) { // running + queued
+                router.execute(
+                    () -> {
+                      try {
+                        release.await(1, TimeUnit.SECONDS);
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                    });
+              }
+              router.execute(() -> isNotified.set(true)); // notification of the observers
+              return null;
+            })
+        .when(api)
+        .addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    plugin.onMessage(buildMessage(null, null, false));
+    assertThat(isNotified).isFalse();
+    assertThat(plugin.getRejectedRemoteServicesCount()).isEqualTo(1);
+    verify(api).removeRemoteReader(anyString());
+    verify(asyncEndpointServerSpi)
+        .sendMessage(
+            ArgumentMatchers.argThat(
+                message -> MessageDto.Action.ERROR.name().equals(message.getAction())));
+    release.countDown();
+    plugin.onUnregister();
+  }
+
+  @Test
+  public void build_whenServiceBulkheadIsAddedAfterwards_shouldNotChangeTheBuiltFactory() {
+    RemotePluginServerFactoryBuilder.BuilderStep builder =
+        RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, executorService)
+            .withAsyncNode(asyncEndpointServerSpi)
+            .withServiceBulkhead(SERVICE_ID, 1, 1);
+    RemotePluginFactorySpi factory = (RemotePluginFactorySpi) builder.build();
+    builder.withServiceBulkhead("OTHER_SERVICE_ID", 1, 1);
+    ObservableRemotePluginServerAdapter plugin =
+        (ObservableRemotePluginServerAdapter) factory.getRemotePlugin();
+    ServiceRoutingExecutorService router =
+        (ServiceRoutingExecutorService) plugin.getExecutorService();
+    assertThat(router.getBulkhead(SERVICE_ID)).isNotNull();
+    assertThat(router.getBulkhead("OTHER_SERVICE_ID")).isNull();
+    plugin.onUnregister();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void registerRemoteServiceHandler_whenServiceIdIsEmpty_shouldThrowIAE() {
+    syncPlugin.registerRemoteServiceHandler("", mock(RemoteServiceHandlerSpi.class));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void registerRemoteServiceHandler_whenHandlerIsNull_shouldThrowIAE() {
+    syncPlugin.registerRemoteServiceHandler(SERVICE_ID, null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void registerRemoteServiceHandler_whenAlreadyRegistered_shouldThrowISE() {
+    syncPlugin.registerRemoteServiceHandler(SERVICE_ID, mock(RemoteServiceHandlerSpi.class));
+    syncPlugin.registerRemoteServiceHandler(SERVICE_ID, mock(RemoteServiceHandlerSpi.class));
+  }
+
+  @Test
+  public void onMessage_whenHandlerIsRegistered_shouldInvokeItWithTheRemoteReader() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME).withSyncNode(), api);
+    RemoteServiceHandlerSpi handler = mock(RemoteServiceHandlerSpi.class);
+    plugin.registerRemoteServiceHandler(SERVICE_ID, handler);
+    plugin.onMessage(buildMessage(null, INPUT_DATA, false));
+    RemoteReaderServerAdapter reader = captureRemoteReader(api);
+    verify(handler).onRemoteService(reader.getName(), reader);
+  }
+
+  @Test
+  public void onMessage_whenHandlerIsUnregistered_shouldNotInvokeIt() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME).withSyncNode(), api);
+    RemoteServiceHandlerSpi handler = mock(RemoteServiceHandlerSpi.class);
+    plugin.registerRemoteServiceHandler(SERVICE_ID, handler);
+    plugin.unregisterRemoteServiceHandler(SERVICE_ID);
+    plugin.onMessage(buildMessage(null, INPUT_DATA, false));
+    verify(api).addRemoteReader(any(RemoteReaderServerAdapter.class), anyInt());
+    verifyNoInteractions(handler);
+  }
+
+  @Test
+  public void onMessage_whenHandlerFails_shouldKeepTheRemoteReader() {
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME).withSyncNode(), api);
+    RemoteServiceHandlerSpi handler = mock(RemoteServiceHandlerSpi.class);
+    doThrow(new IllegalStateException("failure"))
+        .when(handler)
+        .onRemoteService(anyString(), any(RemoteReaderServer.class));
+    plugin.registerRemoteServiceHandler(SERVICE_ID, handler);
+    plugin.onMessage(buildMessage(null, INPUT_DATA, false));
+    plugin.endRemoteService(captureRemoteReader(api).getName(), null);
+  }
+
+  @Test
+  public void onMessage_whenHandlerAndExecutorService_shouldInvokeTheHandlerAsynchronously() {
+    ExecutorService handlerExecutorService = mock(ExecutorService.class);
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, handlerExecutorService)
+                .withSyncNode(),
+            api);
+    RemoteServiceHandlerSpi handler = mock(RemoteServiceHandlerSpi.class);
+    plugin.registerRemoteServiceHandler(SERVICE_ID, handler);
+    plugin.onMessage(buildMessage(null, INPUT_DATA, false));
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+    verify(handlerExecutorService).execute(captor.capture());
+    verifyNoInteractions(handler);
+    captor.getValue().run();
+    verify(handler).onRemoteService(anyString(), any(RemoteReaderServer.class));
+  }
+
+  @Test
+  public void onMessage_whenHandlerExecutorServiceRejects_shouldRejectTheRequestAndSendAnError() {
+    ExecutorService handlerExecutorService = mock(ExecutorService.class);
+    doThrow(new RejectedExecutionException("saturated"))
+        .when(handlerExecutorService)
+        .execute(any(Runnable.class));
+    ObservableRemotePluginApi api = mock(ObservableRemotePluginApi.class);
+    ObservableRemotePluginServerAdapter plugin =
+        buildPlugin(
+            RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME, handlerExecutorService)
+                .withAsyncNode(asyncEndpointServerSpi),
+            api);
+    RemoteServiceHandlerSpi handler = mock(RemoteServiceHandlerSpi.class);
+    plugin.registerRemoteServiceHandler(SERVICE_ID, handler);
+    plugin.onMessage(buildMessage(null, INPUT_DATA, false));
+    verifyNoInteractions(handler);
+    assertThat(plugin.getRejectedRemoteServicesCount()).isEqualTo(1);
+    String remoteReaderName = captureRemoteReader(api).getName();
+    verify(api).removeRemoteReader(remoteReaderName);
+    verify(asyncEndpointServerSpi)
+        .sendMessage(
+            ArgumentMatchers.argThat(
+                message -> MessageDto.Action.ERROR.name().equals(message.getAction())));
+    try {
+      plugin.endRemoteService(remoteReaderName, null);
+      shouldHaveThrown(IllegalArgumentException.class);
+    } catch (IllegalArgumentException e) {
+      // Unknown remote reader.
+    }
+  }
 }
@@ -120,7 +120,8 @@ public boolean matches(MessageDto argument) {
             LOCAL_READER_NAME,
             SESSION_ID,
             CLIENT_NODE_ID,
-            node);
+            node,
+            MetricsRecorder.NO_OP);
   }
 
   @Test
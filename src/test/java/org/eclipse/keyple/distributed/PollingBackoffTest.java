@@ -0,0 +1,66 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class PollingBackoffTest {
+
+  static final long MIN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  static final long MAX_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+
+  @Test
+  public void isPollDue_whenCreated_shouldReturnTrue() {
+    PollingBackoff backoff = new PollingBackoff(100, 1000);
+    assertThat(backoff.isPollDue(System.nanoTime())).isTrue();
+    assertThat(backoff.getIntervalNanos()).isEqualTo(MIN_NANOS);
+  }
+
+  @Test
+  public void onPolled_whenNoResult_shouldDoubleTheIntervalUpToTheMaximum() {
+    PollingBackoff backoff = new PollingBackoff(100, 1000);
+    long now = System.nanoTime();
+    backoff.onPolled(now, false);
+    assertThat(backoff.getIntervalNanos()).isEqualTo(2 * MIN_NANOS);
+    backoff.onPolled(now, false);
+    assertThat(backoff.getIntervalNanos()).isEqualTo(4 * MIN_NANOS);
+    backoff.onPolled(now, false);
+    backoff.onPolled(now, false);
+    assertThat(backoff.getIntervalNanos()).isEqualTo(MAX_NANOS);
+  }
+
+  @Test
+  public void onPolled_whenNoResult_shouldDelayTheNextPollByHalfToAllOfTheInterval() {
+    for (int i = 0; i < 100; i++) {
+      PollingBackoff backoff = new PollingBackoff(100, 1000);
+      long now = System.nanoTime();
+      backoff.onPolled(now, false);
+      long interval = backoff.getIntervalNanos();
+      assertThat(backoff.isPollDue(now + interval / 2 - 1)).isFalse();
+      assertThat(backoff.isPollDue(now + interval)).isTrue();
+    }
+  }
+
+  @Test
+  public void onPolled_whenResult_shouldResetTheIntervalAndAllowAnImmediatePoll() {
+    PollingBackoff backoff = new PollingBackoff(100, 1000);
+    long now = System.nanoTime();
+    backoff.onPolled(now, false);
+    backoff.onPolled(now, false);
+    backoff.onPolled(now, true);
+    assertThat(backoff.getIntervalNanos()).isEqualTo(MIN_NANOS);
+    assertThat(backoff.isPollDue(now)).isTrue();
+  }
+}
@@ -16,6 +16,12 @@
 import static org.mockito.Mockito.*;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.keyple.core.distributed.remote.RemotePluginApi;
 import org.eclipse.keyple.core.distributed.remote.spi.ObservableRemoteReaderSpi;
 import org.eclipse.keyple.core.distributed.remote.spi.RemotePluginFactorySpi;
@@ -24,6 +30,7 @@
 import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 public class RemotePluginClientAdapterTest {
@@ -102,6 +109,14 @@ public void setUp() {
                         .build())
                 .getRemotePlugin();
 
+    doAnswer(
+            invocation -> {
+              asyncPlugin.getAsyncNode().onOpen(invocation.getArgument(0));
+              return null;
+            })
+        .when(asyncEndpointClientSpi)
+        .openSession(anyString());
+
     asyncRemotePluginApi = mock(RemotePluginApi.class);
 
     asyncPlugin.connect(asyncRemotePluginApi);
@@ -132,7 +147,8 @@ public void createRemoteReader_shouldCreateARemoteReader() {
     assertThat(asyncRemoteReader.getLocalReaderName()).isEqualTo(LOCAL_READER_NAME);
     assertThat(asyncRemoteReader.getNode()).isSameAs(asyncPlugin.getNode());
     assertThat(asyncRemoteReader.getClientNodeId()).isEqualTo(asyncPlugin.getNode().getNodeId());
-    assertThat(asyncRemoteReader.getSessionId()).isNull();
+    assertThat(asyncRemoteReader.getSessionId()).isNotEmpty();
+    verify(asyncEndpointClientSpi).openSession(asyncRemoteReader.getSessionId());
   }
 
   @Test
@@ -162,7 +178,8 @@ public void createObservableRemoteReader_shouldCreateAnObservableRemoteReader()
     assertThat(asyncRemoteReader.getLocalReaderName()).isEqualTo(LOCAL_READER_NAME);
     assertThat(asyncRemoteReader.getNode()).isSameAs(asyncPlugin.getNode());
     assertThat(asyncRemoteReader.getClientNodeId()).isEqualTo(asyncPlugin.getNode().getNodeId());
-    assertThat(asyncRemoteReader.getSessionId()).isNull();
+    assertThat(asyncRemoteReader.getSessionId()).isNotEmpty();
+    verify(asyncEndpointClientSpi).openSession(asyncRemoteReader.getSessionId());
   }
 
   @Test
@@ -210,6 +227,38 @@ public void executeRemotely_2Args_whenSync_shouldInvokeSendRequestOnEndpoint() {
     verifyNoMoreInteractions(syncEndpointClientSpi);
   }
 
+  @Test
+  public void executeRemotely_1Arg_whenSyncWithSessionReuse_shouldReuseTheSameSessionId() {
+    RemotePluginClientAdapter plugin =
+        (RemotePluginClientAdapter)
+            ((RemotePluginFactorySpi)
+                    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+                        .withSyncNode(syncEndpointClientSpi)
+                        .withoutPluginObservation()
+                        .withoutReaderObservation()
+                        .withSessionReuse(1, 60000)
+                        .build())
+                .getRemotePlugin();
+    plugin.executeRemotely(CMD_DATA);
+    plugin.executeRemotely(CMD_DATA);
+    ArgumentCaptor<MessageDto> captor = ArgumentCaptor.forClass(MessageDto.class);
+    verify(syncEndpointClientSpi, times(2)).sendRequest(captor.capture());
+    List<MessageDto> requests = captor.getAllValues();
+    assertThat(requests.get(0).getSessionId())
+        .isNotEmpty()
+        .isEqualTo(requests.get(1).getSessionId());
+  }
+
+  @Test
+  public void executeRemotely_1Arg_whenSyncWithoutSessionReuse_shouldUseANewSessionId() {
+    syncPlugin.executeRemotely(CMD_DATA);
+    syncPlugin.executeRemotely(CMD_DATA);
+    ArgumentCaptor<MessageDto> captor = ArgumentCaptor.forClass(MessageDto.class);
+    verify(syncEndpointClientSpi, times(2)).sendRequest(captor.capture());
+    List<MessageDto> requests = captor.getAllValues();
+    assertThat(requests.get(0).getSessionId()).isNotEqualTo(requests.get(1).getSessionId());
+  }
+
   @Test
   public void getName_shouldReturnTheProvidedName() {
     assertThat(syncPlugin.getName()).isEqualTo(REMOTE_PLUGIN_NAME);
@@ -233,4 +282,101 @@ public void isBoundToSyncNode_whenSync_shouldReturnTrue() {
   public void isBoundToSyncNode_whenAsync_shouldReturnFalse() {
     assertThat(asyncPlugin.isBoundToSyncNode()).isFalse();
   }
+
+  @Test
+  public void createRemoteReader_whenAsyncWithReaderSessions_shouldDistributeTheReaders() {
+    LoopbackNetwork network = LoopbackNetworkBuilder.builder().build();
+    try {
+      RemotePluginClientAdapter plugin =
+          (RemotePluginClientAdapter)
+              ((RemotePluginFactorySpi)
+                      RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+                          .withAsyncNode(network.getAsyncEndpointClient(), 5)
+                          .withReaderSessions(2)
+                          .build())
+                  .getRemotePlugin();
+      network.bindAsyncNodeClient(plugin.getAsyncNode());
+      // "A" and "C" have the same hash modulo 2, unlike "B".
+      String sessionIdA =
+          ((RemoteReaderClientAdapter) plugin.createRemoteReader("A", LOCAL_READER_NAME))
+              .getSessionId();
+      String sessionIdB =
+          ((RemoteReaderClientAdapter) plugin.createRemoteReader("B", LOCAL_READER_NAME))
+              .getSessionId();
+      String sessionIdC =
+          ((RemoteReaderClientAdapter) plugin.createRemoteReader("C", LOCAL_READER_NAME))
+              .getSessionId();
+      assertThat(sessionIdA).isNotEmpty().isNotEqualTo(sessionIdB).isEqualTo(sessionIdC);
+      assertThat(sessionIdB).isNotEmpty();
+      plugin.onUnregister();
+    } finally {
+      network.shutdown();
+    }
+  }
+
+  @Test
+  public void createRemoteReader_whenAsyncAndFirstCommandIsOpeningTheSession_shouldAwaitTheSession()
+      throws Exception {
+    final AsyncEndpointClientSpi endpoint = mock(AsyncEndpointClientSpi.class);
+    final RemotePluginClientAdapter plugin =
+        (RemotePluginClientAdapter)
+            ((RemotePluginFactorySpi)
+                    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+                        .withAsyncNode(endpoint, 5)
+                        .build())
+                .getRemotePlugin();
+    final CountDownLatch openStarted = new CountDownLatch(1);
+    final CountDownLatch releaseOpen = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      // The endpoint acknowledges the session opening only once released.
+      doAnswer(
+              invocation -> {
+                final String sessionId = invocation.getArgument(0);
+                openStarted.countDown();
+                executor.submit(
+                    () -> {
+                      releaseOpen.await();
+                      plugin.getAsyncNode().onOpen(sessionId);
+                      return null;
+                    });
+                return null;
+              })
+          .when(endpoint)
+          .openSession(anyString());
+      doAnswer(
+              invocation -> {
+                MessageDto request = invocation.getArgument(0);
+                final MessageDto response =
+                    new MessageDto()
+                        .setApiLevel(API_LEVEL)
+                        .setAction(MessageDto.Action.RESP.name())
+                        .setSessionId(request.getSessionId())
+                        .setClientNodeId(request.getClientNodeId())
+                        .setServerNodeId(SERVER_NODE_ID)
+                        .setBody(RESP_DATA);
+                executor.execute(() -> plugin.getAsyncNode().onMessage(response));
+                return null;
+              })
+          .when(endpoint)
+          .sendMessage(any(MessageDto.class));
+      Future<String> command = executor.submit(() -> plugin.executeRemotely(CMD_DATA));
+      assertThat(openStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<RemoteReaderSpi> reader =
+          executor.submit(() -> plugin.createRemoteReader(REMOTE_READER_NAME, LOCAL_READER_NAME));
+      Thread.sleep(100);
+      assertThat(reader.isDone()).isFalse();
+      releaseOpen.countDown();
+      assertThat(command.get(5, TimeUnit.SECONDS)).isEqualTo(RESP_DATA);
+      String sessionId =
+          ((RemoteReaderClientAdapter) reader.get(5, TimeUnit.SECONDS)).getSessionId();
+      ArgumentCaptor<MessageDto> captor = ArgumentCaptor.forClass(MessageDto.class);
+      verify(endpoint).sendMessage(captor.capture());
+      assertThat(sessionId).isNotEmpty().isEqualTo(captor.getValue().getSessionId());
+      verify(endpoint).openSession(sessionId);
+    } finally {
+      releaseOpen.countDown();
+      executor.shutdownNow();
+    }
+  }
 }
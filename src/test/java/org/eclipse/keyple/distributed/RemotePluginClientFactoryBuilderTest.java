@@ -106,6 +106,75 @@ public void builder_whenAsyncNodeAndTimeoutIsLessThan1_shouldThrowIAE() {
         .build();
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenSessionReuseAndMaxIdleSessionsIsLessThan1_shouldThrowIAE() {
+    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withoutPluginObservation()
+        .withoutReaderObservation()
+        .withSessionReuse(0, 1000)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenSessionReuseAndIdleTimeoutIsLessThan1_shouldThrowIAE() {
+    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withoutPluginObservation()
+        .withoutReaderObservation()
+        .withSessionReuse(1, 0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenReaderSessionsCountIsLessThan1_shouldThrowIAE() {
+    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withAsyncNode(asyncEndpointClientSpi, 1)
+        .withReaderSessions(0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenEventDispatchExecutorIsNull_shouldThrowIAE() {
+    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withAsyncNode(asyncEndpointClientSpi, 1)
+        .withEventDispatchExecutor(null)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenPluginAdaptivePollingMinIsLessThan1_shouldThrowIAE() {
+    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withPluginObservation()
+        .withPluginAdaptivePollingStrategy(0, 1000)
+        .withoutReaderObservation()
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenReaderAdaptivePollingMaxIsLessThanMin_shouldThrowIAE() {
+    RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withoutPluginObservation()
+        .withReaderObservation()
+        .withReaderAdaptivePollingStrategy(1000, 999)
+        .build();
+  }
+
+  @Test
+  public void builder_whenSyncNodeAndAdaptivePolling_shouldReturnANotNullInstance() {
+    RemotePluginClientFactory factory =
+        RemotePluginClientFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+            .withSyncNode(syncEndpointClientSpi)
+            .withPluginObservation()
+            .withPluginAdaptivePollingStrategy(100, 10000)
+            .withReaderObservation()
+            .withReaderAdaptivePollingStrategy(100, 10000)
+            .build();
+    assertThat(factory).isInstanceOf(RemotePluginClientFactoryAdapter.class);
+  }
+
   @Test
   public void builder_whenSyncNodeSuccess_shouldReturnANotNullInstance() {
     RemotePluginClientFactory factory =
@@ -84,4 +84,18 @@ public void builder_whenAsyncNodeSuccess_shouldReturnANotNullInstance() {
         .isInstanceOf(RemotePluginFactorySpi.class)
         .isInstanceOf(RemotePluginServerFactoryAdapter.class);
   }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenRemoteServiceMaxLifetimeIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withRemoteServiceMaxLifetime(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenRemoteServiceIdleTimeoutIsLessThan1_shouldThrowIAE() {
+    RemotePluginServerFactoryBuilder.builder(REMOTE_PLUGIN_NAME)
+        .withSyncNode()
+        .withRemoteServiceIdleTimeout(0);
+  }
 }
@@ -18,6 +18,7 @@
 
 import org.eclipse.keyple.core.util.json.BodyError;
 import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keyple.distributed.spi.RemotePluginMetricsSpi;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentMatcher;
@@ -111,7 +112,8 @@ public void setUp() {
             LOCAL_READER_NAME,
             SESSION_ID,
             CLIENT_NODE_ID,
-            node);
+            node,
+            MetricsRecorder.NO_OP);
   }
 
   @Test
@@ -155,4 +157,56 @@ public void executeRemotely_whenBadCommand_shouldInvokeSendRequestOnNodeAndThrow
       assertThat(e.getCause().getMessage()).isEqualTo(ERROR_DETAIL_MESSAGE);
     }
   }
+
+  private RemoteReaderClientAdapter buildReaderWithMetrics(RemotePluginMetricsSpi metrics) {
+    return new RemoteReaderClientAdapter(
+        CLIENT_CORE_API_LEVEL,
+        REMOTE_READER_NAME,
+        LOCAL_READER_NAME,
+        SESSION_ID,
+        CLIENT_NODE_ID,
+        node,
+        new MetricsRecorder(metrics, "REMOTE_PLUGIN_NAME"));
+  }
+
+  @Test
+  public void executeRemotely_whenMetricsAreEnabled_shouldRecordASuccessfulExchange() {
+    RemotePluginMetricsSpi metrics = mock(RemotePluginMetricsSpi.class);
+    buildReaderWithMetrics(metrics).executeRemotely(CMD_DATA);
+    verify(metrics)
+        .recordExchange(
+            eq("REMOTE_PLUGIN_NAME"),
+            eq(MessageDto.Action.CMD.name()),
+            anyLong(),
+            eq(CMD_DATA.length()),
+            eq(RESP_DATA.length()),
+            eq(true));
+  }
+
+  @Test
+  public void executeRemotely_whenMetricsAreEnabledAndBadCommand_shouldRecordAFailedExchange() {
+    RemotePluginMetricsSpi metrics = mock(RemotePluginMetricsSpi.class);
+    try {
+      buildReaderWithMetrics(metrics).executeRemotely(BAD_CMD_DATA);
+      shouldHaveThrown(RuntimeException.class);
+    } catch (RuntimeException e) {
+      verify(metrics)
+          .recordExchange(
+              eq("REMOTE_PLUGIN_NAME"),
+              eq(MessageDto.Action.CMD.name()),
+              anyLong(),
+              eq(BAD_CMD_DATA.length()),
+              anyInt(),
+              eq(false));
+    }
+  }
+
+  @Test
+  public void executeRemotely_whenMetricsRecorderFails_shouldReturnTheResponse() {
+    RemotePluginMetricsSpi metrics = mock(RemotePluginMetricsSpi.class);
+    doThrow(new IllegalStateException())
+        .when(metrics)
+        .recordExchange(anyString(), anyString(), anyLong(), anyInt(), anyInt(), anyBoolean());
+    assertThat(buildReaderWithMetrics(metrics).executeRemotely(CMD_DATA)).isEqualTo(RESP_DATA);
+  }
 }
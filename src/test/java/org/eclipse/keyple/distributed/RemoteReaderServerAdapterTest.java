@@ -16,6 +16,7 @@
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.keyple.core.util.json.BodyError;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.junit.Before;
@@ -63,6 +64,11 @@ public InputData(String data) {
     }
   }
 
+  static class InputDataView {
+
+    private String data;
+  }
+
   static final String CMD_DATA = "CMD_DATA";
   static final MessageDto CMD_MSG =
       new MessageDto()
@@ -112,6 +118,14 @@ public InputData(String data) {
 
   private void initReader(
       String initialCardContentJson, String initialCardContentClassName, String inputDataJson) {
+    initReader(initialCardContentJson, initialCardContentClassName, inputDataJson, false);
+  }
+
+  private void initReader(
+      String initialCardContentJson,
+      String initialCardContentClassName,
+      String inputDataJson,
+      boolean isRawJsonReleaseEnabled) {
     reader =
         new RemoteReaderServerAdapter(
             CLIENT_DISTRIBUTED_API_LEVEL,
@@ -125,7 +139,10 @@ private void initReader(
             SERVICE_ID,
             initialCardContentJson,
             initialCardContentClassName,
-            inputDataJson);
+            inputDataJson,
+            isRawJsonReleaseEnabled,
+            new ConcurrentHashMap<String, Class<?>>(),
+            MetricsRecorder.NO_OP);
   }
 
   private void initSimpleReader() {
@@ -251,4 +268,55 @@ public void getInputData_whenInputDataIsProvidedAndGoodType_shouldReturnANotNull
     initReader(null, null, INPUT_DATA_JSON);
     assertThat(reader.getInputData(InputData.class)).isEqualToComparingFieldByField(INPUT_DATA);
   }
+
+  @Test
+  public void getInitialCardContent_whenCalledTwice_shouldReturnTheSameInstance() {
+    initReader(INITIAL_CARD_CONTENT_JSON, INITIAL_CARD_CONTENT_CLASS_NAME, null);
+    assertThat(reader.getInitialCardContent()).isSameAs(reader.getInitialCardContent());
+  }
+
+  @Test
+  public void getInitialCardContent_whenRawJsonReleaseIsEnabled_shouldReturnTheSameInstance() {
+    initReader(INITIAL_CARD_CONTENT_JSON, INITIAL_CARD_CONTENT_CLASS_NAME, null, true);
+    Object initialCardContent = reader.getInitialCardContent();
+    assertThat(initialCardContent).isEqualToComparingFieldByField(CARD_CONTENT);
+    assertThat(reader.getInitialCardContent()).isSameAs(initialCardContent);
+  }
+
+  @Test
+  public void getInitialCardContent_whenClassIsNotFound_shouldReturnNull() {
+    initReader(INITIAL_CARD_CONTENT_JSON, "UNKNOWN_CLASS", null);
+    assertThat(reader.getInitialCardContent()).isNull();
+    assertThat(reader.getInitialCardContent()).isNull();
+  }
+
+  @Test
+  public void getInputData_whenCalledTwiceWithTheSameType_shouldReturnTheSameInstance() {
+    initReader(null, null, INPUT_DATA_JSON);
+    assertThat(reader.getInputData(InputData.class))
+        .isSameAs(reader.getInputData(InputData.class));
+  }
+
+  @Test
+  public void getInputData_whenCalledWithAnotherType_shouldReturnAnotherInstance() {
+    initReader(null, null, INPUT_DATA_JSON);
+    InputData inputData = reader.getInputData(InputData.class);
+    InputDataView inputDataView = reader.getInputData(InputDataView.class);
+    assertThat(inputDataView.data).isEqualTo(inputData.data);
+  }
+
+  @Test
+  public void getInputData_whenRawJsonReleaseIsEnabledAndSameType_shouldReturnTheSameInstance() {
+    initReader(null, null, INPUT_DATA_JSON, true);
+    InputData inputData = reader.getInputData(InputData.class);
+    assertThat(inputData).isEqualToComparingFieldByField(INPUT_DATA);
+    assertThat(reader.getInputData(InputData.class)).isSameAs(inputData);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void getInputData_whenRawJsonReleaseIsEnabledAndAnotherType_shouldThrowISE() {
+    initReader(null, null, INPUT_DATA_JSON, true);
+    reader.getInputData(InputData.class);
+    reader.getInputData(InputDataView.class);
+  }
 }
@@ -0,0 +1,105 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ServiceRoutingExecutorServiceTest {
+
+  static final String SERVICE_ID = "SERVICE_ID";
+  static final String OTHER_SERVICE_ID = "OTHER_SERVICE_ID";
+
+  ExecutorService defaultExecutorService;
+  ThreadPoolExecutor bulkhead;
+  ServiceRoutingExecutorService router;
+
+  @Before
+  public void setUp() {
+    defaultExecutorService = mock(ExecutorService.class);
+    bulkhead =
+        new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(1));
+    router =
+        new ServiceRoutingExecutorService(
+            defaultExecutorService, Collections.singletonMap(SERVICE_ID, bulkhead));
+  }
+
+  @After
+  public void tearDown() {
+    bulkhead.shutdownNow();
+  }
+
+  @Test
+  public void execute_whenNoServiceIsEntered_shouldUseTheDefaultExecutorService() {
+    Runnable task = mock(Runnable.class);
+    router.execute(task);
+    verify(defaultExecutorService).execute(task);
+  }
+
+  @Test
+  public void execute_whenServiceHasNoBulkhead_shouldUseTheDefaultExecutorService() {
+    Runnable task = mock(Runnable.class);
+    router.enter(OTHER_SERVICE_ID);
+    try {
+      router.execute(task);
+    } finally {
+      router.exit();
+    }
+    verify(defaultExecutorService).execute(task);
+  }
+
+  @Test
+  public void execute_whenServiceHasABulkhead_shouldUseTheBulkhead() throws InterruptedException {
+    final CountDownLatch executed = new CountDownLatch(1);
+    final String[] threadName = new String[1];
+    router.enter(SERVICE_ID);
+    try {
+      router.execute(
+          () -> {
+            threadName[0] = Thread.currentThread().getName();
+            executed.countDown();
+          });
+    } finally {
+      router.exit();
+    }
+    assertThat(executed.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(threadName[0]).isNotEqualTo(Thread.currentThread().getName());
+    verifyNoInteractions(defaultExecutorService);
+  }
+
+  @Test
+  public void execute_whenNoDefaultExecutorService_shouldRunInTheCallingThread() {
+    router =
+        new ServiceRoutingExecutorService(null, Collections.singletonMap(SERVICE_ID, bulkhead));
+    Runnable task = mock(Runnable.class);
+    router.execute(task);
+    verify(task).run();
+  }
+
+  @Test
+  public void shutdown_shouldOnlyShutdownTheBulkheads() {
+    router.shutdown();
+    assertThat(bulkhead.isShutdown()).isTrue();
+    assertThat(router.isShutdown()).isTrue();
+    verifyNoInteractions(defaultExecutorService);
+  }
+}
@@ -0,0 +1,33 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class SessionIdGeneratorTest {
+
+  @Test
+  public void next_shouldReturnDistinctIdsSharingTheSamePrefix() {
+    String first = SessionIdGenerator.next();
+    String prefix = first.substring(0, first.lastIndexOf('-') + 1);
+    Set<String> sessionIds = new HashSet<String>();
+    for (int i = 0; i < 1000; i++) {
+      sessionIds.add(SessionIdGenerator.next());
+    }
+    assertThat(sessionIds).hasSize(1000).allMatch(sessionId -> sessionId.startsWith(prefix));
+    assertThat(sessionIds).doesNotContain(first);
+  }
+}
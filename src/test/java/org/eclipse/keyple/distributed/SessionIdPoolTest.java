@@ -0,0 +1,83 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SessionIdPoolTest {
+
+  AbstractNodeAdapter node;
+
+  @Before
+  public void setUp() {
+    node = mock(AbstractNodeAdapter.class);
+  }
+
+  @Test
+  public void acquire_whenPoolIsEmpty_shouldOpenANewSession() {
+    SessionIdPool pool = new SessionIdPool(2, 60000);
+    String sessionId = pool.acquire(node);
+    assertThat(sessionId).isNotEmpty();
+    verify(node).openSession(sessionId);
+  }
+
+  @Test
+  public void acquire_whenASessionWasReleased_shouldReuseIt() {
+    SessionIdPool pool = new SessionIdPool(2, 60000);
+    String sessionId = pool.acquire(node);
+    pool.release(sessionId, node);
+    assertThat(pool.acquire(node)).isEqualTo(sessionId);
+    verify(node, times(1)).openSession(anyString());
+    verify(node, never()).closeSessionSilently(anyString());
+  }
+
+  @Test
+  public void release_whenPoolIsFull_shouldCloseTheSession() {
+    SessionIdPool pool = new SessionIdPool(1, 60000);
+    String sessionId1 = pool.acquire(node);
+    String sessionId2 = pool.acquire(node);
+    pool.release(sessionId1, node);
+    pool.release(sessionId2, node);
+    assertThat(pool.getIdleSessionsCount()).isEqualTo(1);
+    verify(node).closeSessionSilently(sessionId2);
+  }
+
+  @Test
+  public void acquire_whenIdleSessionHasExpired_shouldCloseItAndOpenANewOne()
+      throws InterruptedException {
+    SessionIdPool pool = new SessionIdPool(1, 1);
+    String sessionId = pool.acquire(node);
+    pool.release(sessionId, node);
+    Thread.sleep(10);
+    String newSessionId = pool.acquire(node);
+    assertThat(newSessionId).isNotEqualTo(sessionId);
+    verify(node).closeSessionSilently(sessionId);
+    verify(node).openSession(newSessionId);
+  }
+
+  @Test
+  public void clear_shouldCloseAllIdleSessions() {
+    SessionIdPool pool = new SessionIdPool(2, 60000);
+    String sessionId1 = pool.acquire(node);
+    String sessionId2 = pool.acquire(node);
+    pool.release(sessionId1, node);
+    pool.release(sessionId2, node);
+    pool.clear(node);
+    assertThat(pool.getIdleSessionsCount()).isZero();
+    verify(node).closeSessionSilently(sessionId1);
+    verify(node).closeSessionSilently(sessionId2);
+  }
+}
@@ -0,0 +1,78 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+public class RemoteExchangeEventTest {
+
+  static final String EVENT_NAME = "org.eclipse.keyple.distributed.RemoteExchange";
+  static final String BODY = "{\"data\":\"caf\u00e9 \u20ac \ud83d\ude00\"}";
+
+  @Test
+  public void start_whenNoRecordingIsRunning_shouldReturnNull() {
+    assertThat(RemoteExchangeEvent.start()).isNull();
+  }
+
+  @Test
+  public void record_whenRecordingIsRunning_shouldCommitTheEventWithTheUtf8BodySize()
+      throws Exception {
+    Path file = Files.createTempFile("remote-exchange", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable(EVENT_NAME).withoutThreshold();
+        recording.start();
+        RemoteExchangeEvent event = RemoteExchangeEvent.start();
+        assertThat(event).isNotNull();
+        RemoteExchangeEvent.record(
+            event, MessageDto.Action.CMD, "READER", "SESSION_ID", "SERVICE_ID", BODY, true);
+        recording.stop();
+        recording.dump(file);
+      }
+      List<RecordedEvent> events =
+          RecordingFile.readAllEvents(file).stream()
+              .filter(recordedEvent -> EVENT_NAME.equals(recordedEvent.getEventType().getName()))
+              .collect(Collectors.toList());
+      assertThat(events).hasSize(1);
+      RecordedEvent event = events.get(0);
+      assertThat(event.getString("action")).isEqualTo(MessageDto.Action.CMD.name());
+      assertThat(event.getString("remoteReaderName")).isEqualTo("READER");
+      assertThat(event.getString("sessionId")).isEqualTo("SESSION_ID");
+      assertThat(event.getString("serviceId")).isEqualTo("SERVICE_ID");
+      assertThat(event.getInt("bodySize"))
+          .isEqualTo(BODY.getBytes(StandardCharsets.UTF_8).length)
+          .isNotEqualTo(BODY.length());
+      assertThat(event.getBoolean("isSuccessful")).isTrue();
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void getUtf8Length_shouldReturnTheNumberOfEncodedBytes() {
+    for (String value :
+        new String[] {"", "abc", "\u00e9", "\u20ac", "\ud83d\ude00", "\ud83d", BODY}) {
+      assertThat(RemoteExchangeEvent.getUtf8Length(value))
+          .isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+    }
+  }
+}